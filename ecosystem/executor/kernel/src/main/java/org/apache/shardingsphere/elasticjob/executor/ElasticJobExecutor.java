@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.executor;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.api.ElasticJob;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.elasticjob.error.handler.JobErrorHandler;
 import org.apache.shardingsphere.elasticjob.executor.context.ExecutorContext;
 import org.apache.shardingsphere.elasticjob.executor.item.JobItemExecutor;
 import org.apache.shardingsphere.elasticjob.executor.item.JobItemExecutorFactory;
+import org.apache.shardingsphere.elasticjob.infra.context.ShardingItemRanges;
 import org.apache.shardingsphere.elasticjob.infra.env.IpUtils;
 import org.apache.shardingsphere.elasticjob.infra.exception.ExceptionUtils;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionEnvironmentException;
@@ -87,7 +89,7 @@ public final class ElasticJobExecutor {
         if (jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet())) {
             jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format(
                     "Previous job '%s' - shardingItems '%s' is still running, misfired job will start after previous job completed.", jobConfig.getJobName(),
-                    shardingContexts.getShardingItemParameters().keySet()));
+                    ShardingItemRanges.format(shardingContexts.getShardingItemParameters().keySet())));
             return;
         }
         try {
@@ -136,22 +138,23 @@ public final class ElasticJobExecutor {
     
     private void process(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final ExecutionSource executionSource) {
         Collection<Integer> items = shardingContexts.getShardingItemParameters().keySet();
+        JobExecutionEventTemplate eventTemplate = jobFacade.isJobExecutionEventRequired()
+                ? new JobExecutionEventTemplate(IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobConfig.getJobName(), executionSource)
+                : null;
         if (1 == items.size()) {
             int item = shardingContexts.getShardingItemParameters().keySet().iterator().next();
-            JobExecutionEvent jobExecutionEvent = new JobExecutionEvent(IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobConfig.getJobName(), executionSource, item);
-            process(jobConfig, shardingContexts, item, jobExecutionEvent);
+            process(jobConfig, shardingContexts, item, eventTemplate);
             return;
         }
         CountDownLatch latch = new CountDownLatch(items.size());
         for (int each : items) {
-            JobExecutionEvent jobExecutionEvent = new JobExecutionEvent(IpUtils.getHostName(), IpUtils.getIp(), shardingContexts.getTaskId(), jobConfig.getJobName(), executionSource, each);
             ExecutorService executorService = executorContext.get(ExecutorService.class);
             if (executorService.isShutdown()) {
                 return;
             }
             executorService.submit(() -> {
                 try {
-                    process(jobConfig, shardingContexts, each, jobExecutionEvent);
+                    process(jobConfig, shardingContexts, each, eventTemplate);
                 } finally {
                     latch.countDown();
                 }
@@ -165,21 +168,26 @@ public final class ElasticJobExecutor {
     }
     
     @SuppressWarnings("unchecked")
-    private void process(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final int item, final JobExecutionEvent startEvent) {
-        jobFacade.postJobExecutionEvent(startEvent);
+    private void process(final JobConfiguration jobConfig, final ShardingContexts shardingContexts, final int item, final JobExecutionEventTemplate eventTemplate) {
+        JobExecutionEvent startEvent = null == eventTemplate ? null : eventTemplate.create(item);
+        if (null != startEvent) {
+            jobFacade.postJobExecutionEvent(startEvent);
+        }
         log.trace("Job '{}' executing, item is: '{}'.", jobConfig.getJobName(), item);
-        JobExecutionEvent completeEvent;
         try {
             jobItemExecutor.process(elasticJob, jobConfig, jobFacade, shardingContexts.createShardingContext(item));
-            completeEvent = startEvent.executionSuccess();
             log.trace("Job '{}' executed, item is: '{}'.", jobConfig.getJobName(), item);
-            jobFacade.postJobExecutionEvent(completeEvent);
+            if (null != startEvent) {
+                jobFacade.postJobExecutionEvent(startEvent.executionSuccess());
+            }
             // CHECKSTYLE:OFF
         } catch (final Throwable cause) {
             // CHECKSTYLE:ON
-            completeEvent = startEvent.executionFailure(ExceptionUtils.transform(cause));
-            jobFacade.postJobExecutionEvent(completeEvent);
-            itemErrorMessages.put(item, ExceptionUtils.transform(cause));
+            String failureCause = ExceptionUtils.transform(cause);
+            if (null != startEvent) {
+                jobFacade.postJobExecutionEvent(startEvent.executionFailure(failureCause));
+            }
+            itemErrorMessages.put(item, failureCause);
             JobErrorHandler jobErrorHandler = executorContext.get(JobErrorHandler.class);
             jobErrorHandler.handleException(jobConfig.getJobName(), cause);
         }
@@ -191,4 +199,22 @@ public final class ElasticJobExecutor {
     public void shutdown() {
         executorContext.shutdown();
     }
+    
+    @RequiredArgsConstructor
+    private static final class JobExecutionEventTemplate {
+        
+        private final String hostname;
+        
+        private final String ip;
+        
+        private final String taskId;
+        
+        private final String jobName;
+        
+        private final ExecutionSource source;
+        
+        JobExecutionEvent create(final int item) {
+            return new JobExecutionEvent(hostname, ip, taskId, jobName, source, item);
+        }
+    }
 }
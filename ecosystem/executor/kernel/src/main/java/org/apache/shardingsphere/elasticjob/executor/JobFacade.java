@@ -101,6 +101,17 @@ public interface JobFacade {
      */
     boolean isNeedSharding();
     
+    /**
+     * Judge job whether need resharding, which is cheap enough to be judged between batches of data.
+     * 
+     * <p>Result may lag behind registry center slightly, it is used to stop processing early rather than to decide sharding.</p>
+     *
+     * @return whether need resharding
+     */
+    default boolean isReshardingPending() {
+        return isNeedSharding();
+    }
+    
     /**
      * Call before job executed.
      *
@@ -115,6 +126,38 @@ public interface JobFacade {
      */
     void afterJobExecuted(ShardingContexts shardingContexts);
     
+    /**
+     * Load checkpoint of sharding item.
+     * 
+     * @param shardingItem sharding item
+     * @return checkpoint, null if never committed
+     */
+    default String loadCheckpoint(final int shardingItem) {
+        return null;
+    }
+    
+    /**
+     * Commit checkpoint of sharding item.
+     * 
+     * <p>Committed checkpoint is available to the job instance which the sharding item is assigned to after resharding or failover.</p>
+     * 
+     * @param shardingItem sharding item
+     * @param checkpoint checkpoint
+     */
+    default void commitCheckpoint(final int shardingItem, final String checkpoint) {
+    }
+    
+    /**
+     * Judge whether job execution events are required.
+     * 
+     * <p>Job execution events are not built and posted if not required.</p>
+     *
+     * @return job execution events are required or not
+     */
+    default boolean isJobExecutionEventRequired() {
+        return true;
+    }
+    
     /**
      * Post job execution event.
      *
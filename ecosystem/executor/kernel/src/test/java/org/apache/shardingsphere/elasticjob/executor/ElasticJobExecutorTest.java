@@ -102,7 +102,7 @@ class ElasticJobExecutorTest {
         elasticJobExecutor.execute();
         verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, "Job 'test_job' execute begin.");
         verify(jobFacade).postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED,
-                "Previous job 'test_job' - shardingItems '[]' is still running, misfired job will start after previous job completed.");
+                "Previous job 'test_job' - shardingItems '' is still running, misfired job will start after previous job completed.");
         verify(jobItemExecutor, times(0)).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
     }
     
@@ -157,6 +157,24 @@ class ElasticJobExecutorTest {
         assertExecuteSuccess(createMultipleShardingContexts());
     }
     
+    @Test
+    void assertExecuteWithJobExecutionEventRequired() {
+        ShardingContexts shardingContexts = createMultipleShardingContexts();
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        when(jobFacade.isJobExecutionEventRequired()).thenReturn(true);
+        elasticJobExecutor.execute();
+        verify(jobFacade, times(4)).postJobExecutionEvent(any());
+    }
+    
+    @Test
+    void assertExecuteWithoutJobExecutionEventRequired() {
+        ShardingContexts shardingContexts = createMultipleShardingContexts();
+        prepareForIsNotMisfire(jobFacade, shardingContexts);
+        elasticJobExecutor.execute();
+        verify(jobFacade, times(0)).postJobExecutionEvent(any());
+        verify(jobItemExecutor, times(2)).process(eq(fooJob), eq(jobConfig), eq(jobFacade), any());
+    }
+    
     private void assertExecuteSuccess(final ShardingContexts shardingContexts) {
         prepareForIsNotMisfire(jobFacade, shardingContexts);
         elasticJobExecutor.execute();
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive batch sizer, which adjusts batch size of one sharding item by additive increase and multiplicative decrease.
+ * 
+ * <p>
+ * Batch size begins from min batch size. It is halved once processing latency exceeds the latency target,
+ * and increased by one percent of max batch size once a full batch is processed within the latency target,
+ * so that batch size converges to the largest one whose processing latency is within the latency target.
+ * </p>
+ */
+final class AdaptiveBatchSizer {
+    
+    private final int minBatchSize;
+    
+    private final int maxBatchSize;
+    
+    private final long latencyTargetMilliseconds;
+    
+    private final long latencyTargetNanos;
+    
+    private final int increment;
+    
+    @Getter
+    private volatile int batchSize;
+    
+    AdaptiveBatchSizer(final int minBatchSize, final int maxBatchSize, final long latencyTargetMilliseconds) {
+        this.minBatchSize = Math.max(1, minBatchSize);
+        this.maxBatchSize = Math.max(this.minBatchSize, maxBatchSize);
+        this.latencyTargetMilliseconds = latencyTargetMilliseconds;
+        latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMilliseconds);
+        increment = Math.max(1, this.maxBatchSize / 100);
+        batchSize = this.minBatchSize;
+    }
+    
+    /**
+     * Judge whether configured by specified arguments.
+     * 
+     * @param minBatchSize min batch size
+     * @param maxBatchSize max batch size
+     * @param latencyTargetMilliseconds latency target in milliseconds
+     * @return configured by specified arguments or not
+     */
+    boolean isConfiguredBy(final int minBatchSize, final int maxBatchSize, final long latencyTargetMilliseconds) {
+        return this.minBatchSize == Math.max(1, minBatchSize) && this.maxBatchSize == Math.max(this.minBatchSize, maxBatchSize) && this.latencyTargetMilliseconds == latencyTargetMilliseconds;
+    }
+    
+    /**
+     * Adjust batch size by processing latency.
+     * 
+     * <p>Batch size is not increased by a batch smaller than it, which proves nothing about a larger batch.</p>
+     * 
+     * @param dataSize size of processed data
+     * @param latencyNanos processing latency in nanoseconds
+     */
+    synchronized void adjust(final int dataSize, final long latencyNanos) {
+        if (latencyNanos > latencyTargetNanos) {
+            batchSize = Math.max(minBatchSize, batchSize / 2);
+        } else if (dataSize >= batchSize) {
+            batchSize = Math.min(maxBatchSize, batchSize + increment);
+        }
+    }
+}
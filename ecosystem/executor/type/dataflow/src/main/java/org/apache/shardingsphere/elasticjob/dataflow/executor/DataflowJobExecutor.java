@@ -19,57 +19,121 @@ package org.apache.shardingsphere.elasticjob.dataflow.executor;
 
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.api.ShardingContext;
+import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowCheckpoint;
 import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowJob;
 import org.apache.shardingsphere.elasticjob.dataflow.props.DataflowJobProperties;
 import org.apache.shardingsphere.elasticjob.executor.JobFacade;
 import org.apache.shardingsphere.elasticjob.executor.item.impl.ClassedJobItemExecutor;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Dataflow job executor.
  */
 public final class DataflowJobExecutor implements ClassedJobItemExecutor<DataflowJob> {
     
+    private final Map<String, AdaptiveBatchSizer> batchSizers = new ConcurrentHashMap<>();
+    
     @Override
     public void process(final DataflowJob elasticJob, final JobConfiguration jobConfig, final JobFacade jobFacade, final ShardingContext shardingContext) {
-        if (Boolean.parseBoolean(jobConfig.getProps().getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false).toString())) {
-            streamingExecute(elasticJob, jobConfig, jobFacade, shardingContext);
-        } else {
-            oneOffExecute(elasticJob, shardingContext);
+        DataflowCheckpoint.bind(shardingContext, jobFacade);
+        try {
+            AdaptiveBatchSizer batchSizer = getBatchSizer(jobConfig, shardingContext);
+            if (Boolean.parseBoolean(jobConfig.getProps().getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false).toString())) {
+                streamingExecute(elasticJob, jobConfig, jobFacade, shardingContext, batchSizer);
+            } else {
+                oneOffExecute(elasticJob, jobConfig, shardingContext, batchSizer);
+            }
+        } finally {
+            DataflowCheckpoint.unbind(shardingContext);
         }
     }
     
-    private void streamingExecute(final DataflowJob elasticJob, final JobConfiguration jobConfig, final JobFacade jobFacade, final ShardingContext shardingContext) {
-        List<Object> data = fetchData(elasticJob, shardingContext);
+    private AdaptiveBatchSizer getBatchSizer(final JobConfiguration jobConfig, final ShardingContext shardingContext) {
+        String key = String.join("/", shardingContext.getJobName(), String.valueOf(shardingContext.getShardingItem()));
+        long latencyTargetMilliseconds = Long.parseLong(jobConfig.getProps().getOrDefault(DataflowJobProperties.ADAPTIVE_BATCH_LATENCY_TARGET_MILLISECONDS_KEY, 0).toString());
+        if (latencyTargetMilliseconds <= 0L) {
+            batchSizers.remove(key);
+            return null;
+        }
+        int minBatchSize = Integer.parseInt(jobConfig.getProps().getOrDefault(DataflowJobProperties.ADAPTIVE_BATCH_SIZE_MIN_KEY, 1).toString());
+        int maxBatchSize = Integer.parseInt(jobConfig.getProps().getOrDefault(DataflowJobProperties.ADAPTIVE_BATCH_SIZE_MAX_KEY, 1000).toString());
+        return batchSizers.compute(key, (unused, batchSizer) -> null != batchSizer && batchSizer.isConfiguredBy(minBatchSize, maxBatchSize, latencyTargetMilliseconds)
+                ? batchSizer
+                : new AdaptiveBatchSizer(minBatchSize, maxBatchSize, latencyTargetMilliseconds));
+    }
+    
+    private void streamingExecute(final DataflowJob elasticJob, final JobConfiguration jobConfig, final JobFacade jobFacade, final ShardingContext shardingContext,
+                                  final AdaptiveBatchSizer batchSizer) {
+        int prefetchDepth = Integer.parseInt(jobConfig.getProps().getOrDefault(DataflowJobProperties.STREAM_PREFETCH_DEPTH_KEY, 0).toString());
+        if (prefetchDepth > 0) {
+            prefetchStreamingExecute(elasticJob, jobConfig, jobFacade, shardingContext, batchSizer, prefetchDepth);
+            return;
+        }
+        List<Object> data = fetchData(elasticJob, shardingContext, batchSizer);
         while (null != data && !data.isEmpty()) {
-            processData(elasticJob, shardingContext, data);
+            processData(elasticJob, jobConfig, shardingContext, batchSizer, data);
             if (!isEligibleForJobRunning(jobConfig, jobFacade)) {
                 break;
             }
-            data = fetchData(elasticJob, shardingContext);
+            data = fetchData(elasticJob, shardingContext, batchSizer);
+        }
+    }
+    
+    private void prefetchStreamingExecute(final DataflowJob elasticJob, final JobConfiguration jobConfig, final JobFacade jobFacade, final ShardingContext shardingContext,
+                                          final AdaptiveBatchSizer batchSizer, final int prefetchDepth) {
+        StreamingPrefetcher prefetcher = new StreamingPrefetcher(() -> fetchData(elasticJob, shardingContext, batchSizer), prefetchDepth);
+        try {
+            List<Object> data = prefetcher.take();
+            while (null != data) {
+                processData(elasticJob, jobConfig, shardingContext, batchSizer, data);
+                if (!isEligibleForJobRunning(jobConfig, jobFacade)) {
+                    break;
+                }
+                data = prefetcher.take();
+            }
+        } finally {
+            prefetcher.stop();
         }
     }
     
     private boolean isEligibleForJobRunning(final JobConfiguration jobConfig, final JobFacade jobFacade) {
-        return !jobFacade.isNeedSharding() && Boolean.parseBoolean(jobConfig.getProps().getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false).toString());
+        return !jobFacade.isReshardingPending() && Boolean.parseBoolean(jobConfig.getProps().getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false).toString());
     }
     
-    private void oneOffExecute(final DataflowJob elasticJob, final ShardingContext shardingContext) {
-        List<Object> data = fetchData(elasticJob, shardingContext);
+    private void oneOffExecute(final DataflowJob elasticJob, final JobConfiguration jobConfig, final ShardingContext shardingContext, final AdaptiveBatchSizer batchSizer) {
+        List<Object> data = fetchData(elasticJob, shardingContext, batchSizer);
         if (null != data && !data.isEmpty()) {
-            processData(elasticJob, shardingContext, data);
+            processData(elasticJob, jobConfig, shardingContext, batchSizer, data);
         }
     }
     
     @SuppressWarnings("unchecked")
-    private List<Object> fetchData(final DataflowJob elasticJob, final ShardingContext shardingContext) {
-        return elasticJob.fetchData(shardingContext);
+    private List<Object> fetchData(final DataflowJob elasticJob, final ShardingContext shardingContext, final AdaptiveBatchSizer batchSizer) {
+        return null == batchSizer ? elasticJob.fetchData(shardingContext) : elasticJob.fetchData(shardingContext, batchSizer.getBatchSize());
+    }
+    
+    private void processData(final DataflowJob elasticJob, final JobConfiguration jobConfig, final ShardingContext shardingContext, final AdaptiveBatchSizer batchSizer, final List<Object> data) {
+        if (null == batchSizer) {
+            processData(elasticJob, jobConfig, shardingContext, data);
+            return;
+        }
+        long startTime = System.nanoTime();
+        processData(elasticJob, jobConfig, shardingContext, data);
+        batchSizer.adjust(data.size(), System.nanoTime() - startTime);
     }
     
     @SuppressWarnings("unchecked")
-    private void processData(final DataflowJob elasticJob, final ShardingContext shardingContext, final List<Object> data) {
-        elasticJob.processData(shardingContext, data);
+    private void processData(final DataflowJob elasticJob, final JobConfiguration jobConfig, final ShardingContext shardingContext, final List<Object> data) {
+        int subBatchSize = Integer.parseInt(jobConfig.getProps().getOrDefault(DataflowJobProperties.PROCESS_SUB_BATCH_SIZE_KEY, 0).toString());
+        if (subBatchSize <= 0 || data.size() <= subBatchSize) {
+            elasticJob.processData(shardingContext, data);
+            return;
+        }
+        int parallelism = Integer.parseInt(jobConfig.getProps().getOrDefault(DataflowJobProperties.PROCESS_PARALLELISM_KEY, Runtime.getRuntime().availableProcessors()).toString());
+        new SubBatchProcessor(subBatchSize, parallelism).process(data, each -> elasticJob.processData(shardingContext, each));
     }
     
     @Override
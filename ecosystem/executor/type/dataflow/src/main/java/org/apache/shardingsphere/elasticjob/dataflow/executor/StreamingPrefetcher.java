@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Streaming prefetcher, which fetches data of one sharding item ahead of processing.
+ * 
+ * <p>
+ * Data is fetched one by one by a single prefetch thread and handed off in fetched order through a queue bounded by prefetch depth,
+ * the stream ends at the first null or empty data, or once the prefetcher is stopped.
+ * </p>
+ * 
+ * <p>
+ * Prefetch threads are shared by all sharding items and bounded by system property {@value #MAX_THREADS_KEY}, 2 times of available processors by default.
+ * If all prefetch threads are busy, data is fetched by the thread taking it without prefetching.
+ * </p>
+ */
+final class StreamingPrefetcher {
+    
+    static final String MAX_THREADS_KEY = "elasticjob.dataflow.prefetch.max-threads";
+    
+    private static final Executor PREFETCH_EXECUTOR = new ThreadPoolExecutor(0, Math.max(1, Integer.getInteger(MAX_THREADS_KEY, Runtime.getRuntime().availableProcessors() * 2)),
+            60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new BasicThreadFactory.Builder().namingPattern("elasticjob-dataflow-prefetch-%s").daemon(true).build());
+    
+    private final List<Object> endOfStream = new ArrayList<>(0);
+    
+    private final Supplier<List<Object>> fetcher;
+    
+    private final BlockingQueue<List<Object>> queue;
+    
+    private final CountDownLatch completed = new CountDownLatch(1);
+    
+    private final boolean prefetching;
+    
+    private volatile boolean stopped;
+    
+    private volatile Throwable failure;
+    
+    StreamingPrefetcher(final Supplier<List<Object>> fetcher, final int prefetchDepth) {
+        this(fetcher, prefetchDepth, PREFETCH_EXECUTOR);
+    }
+    
+    StreamingPrefetcher(final Supplier<List<Object>> fetcher, final int prefetchDepth, final Executor prefetchExecutor) {
+        this.fetcher = fetcher;
+        queue = new ArrayBlockingQueue<>(prefetchDepth);
+        prefetching = startPrefetch(prefetchExecutor);
+    }
+    
+    private boolean startPrefetch(final Executor prefetchExecutor) {
+        try {
+            prefetchExecutor.execute(this::prefetch);
+            return true;
+        } catch (final RejectedExecutionException ignored) {
+            completed.countDown();
+            return false;
+        }
+    }
+    
+    private void prefetch() {
+        try {
+            fetchAll();
+        } finally {
+            completed.countDown();
+        }
+    }
+    
+    private void fetchAll() {
+        try {
+            List<Object> data = fetcher.get();
+            while (!stopped && null != data && !data.isEmpty()) {
+                queue.put(data);
+                if (stopped) {
+                    return;
+                }
+                data = fetcher.get();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Throwable cause) {
+            // CHECKSTYLE:ON
+            failure = cause;
+        }
+        if (!stopped) {
+            try {
+                queue.put(endOfStream);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    /**
+     * Take next data.
+     * 
+     * @return next data, null if the stream ended
+     * @throws JobSystemException if fetching data failed with checked exception, or the thread is interrupted while waiting for data
+     */
+    List<Object> take() {
+        if (!prefetching) {
+            List<Object> result = fetcher.get();
+            return null == result || result.isEmpty() ? null : result;
+        }
+        List<Object> result;
+        try {
+            result = queue.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new JobSystemException(ex);
+        }
+        if (endOfStream != result) {
+            return result;
+        }
+        Throwable cause = failure;
+        if (null == cause) {
+            return null;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new JobSystemException(cause);
+    }
+    
+    /**
+     * Stop prefetching, and wait for the data being fetched.
+     * 
+     * <p>Data fetched but not taken yet is discarded.</p>
+     */
+    void stop() {
+        stopped = true;
+        queue.clear();
+        try {
+            completed.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Sub-batch processor, which splits data of one sharding item into sub-batches and processes them in parallel.
+ * 
+ * <p>
+ * The calling thread processes sub-batches together with up to parallelism - 1 threads of a shared pool.
+ * All sub-batches are processed even if some of them failed, failures are aggregated into one exception after that.
+ * </p>
+ * 
+ * <p>
+ * Process threads are shared by all sharding items and bounded by system property {@value #MAX_THREADS_KEY}, 2 times of available processors by default.
+ * If all process threads are busy, the remaining sub-batches are processed by the calling thread.
+ * </p>
+ */
+final class SubBatchProcessor {
+    
+    static final String MAX_THREADS_KEY = "elasticjob.dataflow.process.max-threads";
+    
+    private static final Executor PROCESS_EXECUTOR = new ThreadPoolExecutor(0, Math.max(1, Integer.getInteger(MAX_THREADS_KEY, Runtime.getRuntime().availableProcessors() * 2)),
+            60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new BasicThreadFactory.Builder().namingPattern("elasticjob-dataflow-process-%s").daemon(true).build());
+    
+    private final int subBatchSize;
+    
+    private final int parallelism;
+    
+    private final Executor processExecutor;
+    
+    SubBatchProcessor(final int subBatchSize, final int parallelism) {
+        this(subBatchSize, parallelism, PROCESS_EXECUTOR);
+    }
+    
+    SubBatchProcessor(final int subBatchSize, final int parallelism, final Executor processExecutor) {
+        this.subBatchSize = subBatchSize;
+        this.parallelism = parallelism;
+        this.processExecutor = processExecutor;
+    }
+    
+    /**
+     * Process data.
+     * 
+     * @param data data to be processed
+     * @param processor processor of each sub-batch
+     * @throws JobExecutionException if any sub-batch failed
+     */
+    void process(final List<Object> data, final Consumer<List<Object>> processor) {
+        int subBatchCount = (data.size() + subBatchSize - 1) / subBatchSize;
+        if (subBatchCount <= 1 || parallelism <= 1) {
+            processor.accept(data);
+            return;
+        }
+        AtomicInteger nextSubBatch = new AtomicInteger();
+        Throwable[] failures = new Throwable[subBatchCount];
+        int workerCount = Math.min(parallelism, subBatchCount) - 1;
+        CountDownLatch latch = new CountDownLatch(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            try {
+                processExecutor.execute(() -> {
+                    try {
+                        processSubBatches(data, processor, nextSubBatch, failures);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            } catch (final RejectedExecutionException ignored) {
+                for (int j = i; j < workerCount; j++) {
+                    latch.countDown();
+                }
+                break;
+            }
+        }
+        processSubBatches(data, processor, nextSubBatch, failures);
+        awaitUninterruptibly(latch);
+        throwIfFailed(data.size(), failures);
+    }
+    
+    private void processSubBatches(final List<Object> data, final Consumer<List<Object>> processor, final AtomicInteger nextSubBatch, final Throwable[] failures) {
+        int subBatch = nextSubBatch.getAndIncrement();
+        while (subBatch < failures.length) {
+            int fromIndex = subBatch * subBatchSize;
+            try {
+                processor.accept(new ArrayList<>(data.subList(fromIndex, Math.min(fromIndex + subBatchSize, data.size()))));
+                // CHECKSTYLE:OFF
+            } catch (final Throwable cause) {
+                // CHECKSTYLE:ON
+                failures[subBatch] = cause;
+            }
+            subBatch = nextSubBatch.getAndIncrement();
+        }
+    }
+    
+    private void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (final InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void throwIfFailed(final int dataSize, final Throwable[] failures) {
+        List<String> failedRanges = new ArrayList<>();
+        List<Throwable> causes = new ArrayList<>();
+        for (int i = 0; i < failures.length; i++) {
+            if (null != failures[i]) {
+                failedRanges.add(String.format("[%d, %d)", i * subBatchSize, Math.min((i + 1) * subBatchSize, dataSize)));
+                causes.add(failures[i]);
+            }
+        }
+        if (causes.isEmpty()) {
+            return;
+        }
+        JobExecutionException result = new JobExecutionException("Process data failed in %d of %d sub-batches, failed data ranges are %s.", causes.size(), failures.length, failedRanges);
+        result.initCause(causes.get(0));
+        causes.subList(1, causes.size()).forEach(result::addSuppressed);
+        throw result;
+    }
+}
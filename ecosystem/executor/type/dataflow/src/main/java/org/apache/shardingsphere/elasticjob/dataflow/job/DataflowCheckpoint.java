@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.job;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.api.ShardingContext;
+import org.apache.shardingsphere.elasticjob.executor.JobFacade;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dataflow checkpoint, which keeps the offset of data processed by a sharding item.
+ * 
+ * <p>
+ * Committed offset is persisted by job facade in batch, and is available to the job instance which the sharding item is assigned to after resharding or failover,
+ * so that dataflow job can fetch data from the last offset instead of from the beginning.
+ * </p>
+ * 
+ * <p>
+ * Checkpoint is only available with the sharding context passed to dataflow job, while the sharding item is being executed.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataflowCheckpoint {
+    
+    private static final Map<ShardingContext, JobFacade> JOB_FACADES = new ConcurrentHashMap<>();
+    
+    private final JobFacade jobFacade;
+    
+    private final int shardingItem;
+    
+    /**
+     * Bind job facade to sharding context, which is called by dataflow job executor before fetching data.
+     * 
+     * @param shardingContext sharding context
+     * @param jobFacade job facade
+     */
+    public static void bind(final ShardingContext shardingContext, final JobFacade jobFacade) {
+        JOB_FACADES.put(shardingContext, jobFacade);
+    }
+    
+    /**
+     * Unbind job facade from sharding context, which is called by dataflow job executor after sharding item executed.
+     * 
+     * @param shardingContext sharding context
+     */
+    public static void unbind(final ShardingContext shardingContext) {
+        JOB_FACADES.remove(shardingContext);
+    }
+    
+    /**
+     * Get dataflow checkpoint of sharding item.
+     * 
+     * @param shardingContext sharding context
+     * @return dataflow checkpoint
+     * @throws JobSystemException if sharding item is not being executed by dataflow job executor
+     */
+    public static DataflowCheckpoint of(final ShardingContext shardingContext) {
+        JobFacade jobFacade = JOB_FACADES.get(shardingContext);
+        if (null == jobFacade) {
+            throw new JobSystemException("Sharding item '%s' of job '%s' is not being executed by dataflow job executor.", shardingContext.getShardingItem(), shardingContext.getJobName());
+        }
+        return new DataflowCheckpoint(jobFacade, shardingContext.getShardingItem());
+    }
+    
+    /**
+     * Get last committed offset.
+     * 
+     * @return last committed offset, null if never committed
+     */
+    public String getLastOffset() {
+        return jobFacade.loadCheckpoint(shardingItem);
+    }
+    
+    /**
+     * Commit offset of processed data.
+     * 
+     * @param offset offset of processed data
+     */
+    public void commitOffset(final String offset) {
+        jobFacade.commitCheckpoint(shardingItem, offset);
+    }
+}
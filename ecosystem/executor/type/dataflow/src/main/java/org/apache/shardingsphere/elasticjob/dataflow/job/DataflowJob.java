@@ -31,12 +31,30 @@ public interface DataflowJob<T> extends ElasticJob {
     
     /**
      * Fetch to be processed data.
+     * 
+     * <p>
+     * If streaming prefetch is enabled, it is called by a prefetch thread while previous data is processed by the job thread,
+     * and fetched data is handed off to {@link #processData(ShardingContext, List)} through a queue, so it must not rely on thread local status of the job thread.
+     * </p>
      *
      * @param shardingContext sharding context
      * @return to be processed data
      */
     List<T> fetchData(ShardingContext shardingContext);
     
+    /**
+     * Fetch to be processed data with target batch size.
+     * 
+     * <p>Called instead of {@link #fetchData(ShardingContext)} if adaptive batch size is enabled, the target batch size is adjusted by processing latency of previous data.</p>
+     *
+     * @param shardingContext sharding context
+     * @param batchSize target batch size
+     * @return to be processed data
+     */
+    default List<T> fetchData(ShardingContext shardingContext, int batchSize) {
+        return fetchData(shardingContext);
+    }
+    
     /**
      * Process data.
      *
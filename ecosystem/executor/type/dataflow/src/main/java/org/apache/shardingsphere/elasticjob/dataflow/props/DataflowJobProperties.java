@@ -26,4 +26,34 @@ public final class DataflowJobProperties {
      * Whether use stream mode to process dataflow job.
      */
     public static final String STREAM_PROCESS_KEY = "streaming.process";
+    
+    /**
+     * Max count of data fetched ahead of processing in stream mode, 0 means fetch data only after previous data processed.
+     */
+    public static final String STREAM_PREFETCH_DEPTH_KEY = "streaming.prefetch.depth";
+    
+    /**
+     * Size of sub-batches which fetched data is split into to be processed in parallel, 0 means process fetched data in one batch.
+     */
+    public static final String PROCESS_SUB_BATCH_SIZE_KEY = "process.sub.batch.size";
+    
+    /**
+     * Max count of sub-batches of one sharding item processed in parallel.
+     */
+    public static final String PROCESS_PARALLELISM_KEY = "process.parallelism";
+    
+    /**
+     * Processing latency target of each fetched data in milliseconds, 0 means adaptive batch size is disabled.
+     */
+    public static final String ADAPTIVE_BATCH_LATENCY_TARGET_MILLISECONDS_KEY = "adaptive.batch.latency.target.milliseconds";
+    
+    /**
+     * Min batch size of adaptive batch size.
+     */
+    public static final String ADAPTIVE_BATCH_SIZE_MIN_KEY = "adaptive.batch.size.min";
+    
+    /**
+     * Max batch size of adaptive batch size.
+     */
+    public static final String ADAPTIVE_BATCH_SIZE_MAX_KEY = "adaptive.batch.size.max";
 }
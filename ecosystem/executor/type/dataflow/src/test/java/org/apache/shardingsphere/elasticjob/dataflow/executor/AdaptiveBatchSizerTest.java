@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveBatchSizerTest {
+    
+    private static final long WITHIN_TARGET = TimeUnit.MILLISECONDS.toNanos(50L);
+    
+    private static final long EXCEED_TARGET = TimeUnit.MILLISECONDS.toNanos(150L);
+    
+    @Test
+    void assertInitialBatchSize() {
+        assertThat(new AdaptiveBatchSizer(10, 1000, 100L).getBatchSize(), is(10));
+        assertThat(new AdaptiveBatchSizer(0, 0, 100L).getBatchSize(), is(1));
+    }
+    
+    @Test
+    void assertIncreaseWithinLatencyTarget() {
+        AdaptiveBatchSizer actual = new AdaptiveBatchSizer(10, 1000, 100L);
+        actual.adjust(10, WITHIN_TARGET);
+        assertThat(actual.getBatchSize(), is(20));
+    }
+    
+    @Test
+    void assertNotIncreaseByPartialBatch() {
+        AdaptiveBatchSizer actual = new AdaptiveBatchSizer(10, 1000, 100L);
+        actual.adjust(5, WITHIN_TARGET);
+        assertThat(actual.getBatchSize(), is(10));
+    }
+    
+    @Test
+    void assertIncreaseToMaxBatchSize() {
+        AdaptiveBatchSizer actual = new AdaptiveBatchSizer(10, 25, 100L);
+        for (int i = 0; i < 30; i++) {
+            actual.adjust(actual.getBatchSize(), WITHIN_TARGET);
+        }
+        assertThat(actual.getBatchSize(), is(25));
+    }
+    
+    @Test
+    void assertDecreaseWhenExceedLatencyTarget() {
+        AdaptiveBatchSizer actual = new AdaptiveBatchSizer(10, 1000, 100L);
+        for (int i = 0; i < 10; i++) {
+            actual.adjust(actual.getBatchSize(), WITHIN_TARGET);
+        }
+        assertThat(actual.getBatchSize(), is(110));
+        actual.adjust(110, EXCEED_TARGET);
+        assertThat(actual.getBatchSize(), is(55));
+        actual.adjust(55, EXCEED_TARGET);
+        actual.adjust(27, EXCEED_TARGET);
+        actual.adjust(13, EXCEED_TARGET);
+        assertThat(actual.getBatchSize(), is(10));
+    }
+    
+    @Test
+    void assertConvergeToLatencyTarget() {
+        AdaptiveBatchSizer actual = new AdaptiveBatchSizer(1, 10000, 100L);
+        long nanosPerRecord = TimeUnit.MILLISECONDS.toNanos(1L);
+        int maxBatchSize = 0;
+        int minBatchSizeAfterWarmUp = Integer.MAX_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            int batchSize = actual.getBatchSize();
+            maxBatchSize = Math.max(maxBatchSize, batchSize);
+            if (i >= 100) {
+                minBatchSizeAfterWarmUp = Math.min(minBatchSizeAfterWarmUp, batchSize);
+            }
+            actual.adjust(batchSize, batchSize * nanosPerRecord);
+        }
+        assertTrue(maxBatchSize < 200);
+        assertTrue(minBatchSizeAfterWarmUp >= 50);
+    }
+    
+    @Test
+    void assertIsConfiguredBy() {
+        AdaptiveBatchSizer actual = new AdaptiveBatchSizer(10, 1000, 100L);
+        assertTrue(actual.isConfiguredBy(10, 1000, 100L));
+        assertFalse(actual.isConfiguredBy(10, 1000, 200L));
+    }
+}
@@ -19,21 +19,29 @@ package org.apache.shardingsphere.elasticjob.dataflow.executor;
 
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.api.ShardingContext;
+import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowCheckpoint;
 import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowJob;
 import org.apache.shardingsphere.elasticjob.dataflow.props.DataflowJobProperties;
 import org.apache.shardingsphere.elasticjob.executor.JobFacade;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -61,6 +69,7 @@ class DataflowJobExecutorTest {
     @BeforeEach
     void createJobExecutor() {
         jobExecutor = new DataflowJobExecutor();
+        lenient().when(shardingContext.getJobName()).thenReturn("test_job");
     }
     
     @SuppressWarnings("unchecked")
@@ -68,24 +77,123 @@ class DataflowJobExecutorTest {
     void assertProcessWithStreamingExecute() {
         List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2");
         when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.ADAPTIVE_BATCH_LATENCY_TARGET_MILLISECONDS_KEY, 0)).thenReturn(0);
         when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("true");
+        when(properties.getOrDefault(DataflowJobProperties.STREAM_PREFETCH_DEPTH_KEY, 0)).thenReturn(0);
+        when(properties.getOrDefault(DataflowJobProperties.PROCESS_SUB_BATCH_SIZE_KEY, 0)).thenReturn(0);
         when(elasticJob.fetchData(shardingContext)).thenReturn(data);
-        when(jobFacade.isNeedSharding()).thenReturn(true);
+        when(jobFacade.isReshardingPending()).thenReturn(true);
         jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
         verify(elasticJob, times(1)).processData(shardingContext, data);
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithPrefetchStreamingExecute() {
+        List<String> data1 = Arrays.asList("DataflowJob1", "DataflowJob2");
+        List<String> data2 = Collections.singletonList("DataflowJob3");
+        when(jobConfig.getProps()).thenReturn(createPrefetchProperties());
+        when(elasticJob.fetchData(shardingContext)).thenReturn(data1, data2, Collections.emptyList());
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        InOrder inOrder = inOrder(elasticJob);
+        inOrder.verify(elasticJob).processData(shardingContext, data1);
+        inOrder.verify(elasticJob).processData(shardingContext, data2);
+        verify(elasticJob, times(3)).fetchData(shardingContext);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithPrefetchStreamingExecuteWhenNeedSharding() {
+        List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2");
+        when(jobConfig.getProps()).thenReturn(createPrefetchProperties());
+        when(elasticJob.fetchData(shardingContext)).thenReturn(data);
+        when(jobFacade.isReshardingPending()).thenReturn(true);
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        verify(elasticJob, times(1)).processData(shardingContext, data);
+        verify(elasticJob, atMost(4)).fetchData(shardingContext);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithPrefetchStreamingExecuteWhenFetchDataFailure() {
+        List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2");
+        when(jobConfig.getProps()).thenReturn(createPrefetchProperties());
+        when(elasticJob.fetchData(shardingContext)).thenReturn(data).thenThrow(new IllegalStateException("fetch failure"));
+        assertThrows(IllegalStateException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext));
+        verify(elasticJob, times(1)).processData(shardingContext, data);
+    }
+    
+    private Properties createPrefetchProperties() {
+        Properties result = new Properties();
+        result.setProperty(DataflowJobProperties.STREAM_PROCESS_KEY, Boolean.TRUE.toString());
+        result.setProperty(DataflowJobProperties.STREAM_PREFETCH_DEPTH_KEY, "2");
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     void assertProcessWithOneOffExecute() {
         List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2");
         when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.ADAPTIVE_BATCH_LATENCY_TARGET_MILLISECONDS_KEY, 0)).thenReturn(0);
         when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("false");
+        when(properties.getOrDefault(DataflowJobProperties.PROCESS_SUB_BATCH_SIZE_KEY, 0)).thenReturn(0);
         when(elasticJob.fetchData(shardingContext)).thenReturn(data);
         jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
         verify(elasticJob, times(1)).processData(shardingContext, data);
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithSubBatches() {
+        Properties props = new Properties();
+        props.setProperty(DataflowJobProperties.PROCESS_SUB_BATCH_SIZE_KEY, "2");
+        props.setProperty(DataflowJobProperties.PROCESS_PARALLELISM_KEY, "2");
+        when(jobConfig.getProps()).thenReturn(props);
+        when(elasticJob.fetchData(shardingContext)).thenReturn(Arrays.asList("DataflowJob1", "DataflowJob2", "DataflowJob3"));
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        verify(elasticJob).processData(shardingContext, Arrays.asList("DataflowJob1", "DataflowJob2"));
+        verify(elasticJob).processData(shardingContext, Collections.singletonList("DataflowJob3"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithAdaptiveBatchSize() {
+        Properties props = new Properties();
+        props.setProperty(DataflowJobProperties.ADAPTIVE_BATCH_LATENCY_TARGET_MILLISECONDS_KEY, "60000");
+        props.setProperty(DataflowJobProperties.ADAPTIVE_BATCH_SIZE_MIN_KEY, "2");
+        props.setProperty(DataflowJobProperties.ADAPTIVE_BATCH_SIZE_MAX_KEY, "100");
+        when(jobConfig.getProps()).thenReturn(props);
+        when(shardingContext.getJobName()).thenReturn("test_job");
+        when(elasticJob.fetchData(shardingContext, 2)).thenReturn(Arrays.asList("DataflowJob1", "DataflowJob2"));
+        when(elasticJob.fetchData(shardingContext, 3)).thenReturn(Collections.singletonList("DataflowJob3"));
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        verify(elasticJob).fetchData(shardingContext, 2);
+        verify(elasticJob, times(2)).fetchData(shardingContext, 3);
+        verify(elasticJob, times(0)).fetchData(shardingContext);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithCheckpoint() {
+        List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2");
+        when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.ADAPTIVE_BATCH_LATENCY_TARGET_MILLISECONDS_KEY, 0)).thenReturn(0);
+        when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("false");
+        when(properties.getOrDefault(DataflowJobProperties.PROCESS_SUB_BATCH_SIZE_KEY, 0)).thenReturn(0);
+        when(shardingContext.getShardingItem()).thenReturn(1);
+        when(jobFacade.loadCheckpoint(1)).thenReturn("DataflowJob0");
+        when(elasticJob.fetchData(shardingContext)).thenAnswer(invocation -> DataflowCheckpoint.of(shardingContext).getLastOffset().equals("DataflowJob0") ? data : Collections.emptyList());
+        doAnswer(invocation -> {
+            DataflowCheckpoint.of(shardingContext).commitOffset("DataflowJob2");
+            return null;
+        }).when(elasticJob).processData(shardingContext, data);
+        jobExecutor.process(elasticJob, jobConfig, jobFacade, shardingContext);
+        verify(jobFacade).commitCheckpoint(1, "DataflowJob2");
+    }
+    
     @Test
     void assertGetElasticJobClass() {
         assertThat(jobExecutor.getElasticJobClass(), is(DataflowJob.class));
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingPrefetcherTest {
+    
+    @Test
+    void assertTakeWithPrefetch() {
+        Iterator<List<Object>> data = Arrays.<List<Object>>asList(Collections.singletonList(1), Collections.singletonList(2), Collections.emptyList()).iterator();
+        StreamingPrefetcher prefetcher = new StreamingPrefetcher(data::next, 1);
+        try {
+            assertThat(prefetcher.take(), is(Collections.<Object>singletonList(1)));
+            assertThat(prefetcher.take(), is(Collections.<Object>singletonList(2)));
+            assertNull(prefetcher.take());
+        } finally {
+            prefetcher.stop();
+        }
+    }
+    
+    @Test
+    void assertTakeWhenPrefetchRejected() {
+        Iterator<List<Object>> data = Arrays.<List<Object>>asList(Collections.singletonList(1), Collections.emptyList()).iterator();
+        StreamingPrefetcher prefetcher = new StreamingPrefetcher(data::next, 1, command -> {
+            throw new RejectedExecutionException();
+        });
+        try {
+            assertThat(prefetcher.take(), is(Collections.<Object>singletonList(1)));
+            assertNull(prefetcher.take());
+        } finally {
+            prefetcher.stop();
+        }
+    }
+    
+    @Test
+    void assertTakeWhenInterrupted() {
+        StreamingPrefetcher prefetcher = new StreamingPrefetcher(Collections::emptyList, 1, command -> {
+        });
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(JobSystemException.class, prefetcher::take);
+            assertTrue(Thread.interrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
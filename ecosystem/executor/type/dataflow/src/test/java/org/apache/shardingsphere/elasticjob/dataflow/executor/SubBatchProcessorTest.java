@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SubBatchProcessorTest {
+    
+    @Test
+    void assertProcessInOneBatch() {
+        List<List<Object>> actual = new CopyOnWriteArrayList<>();
+        List<Object> data = Arrays.asList(1, 2, 3);
+        new SubBatchProcessor(3, 4).process(data, actual::add);
+        assertThat(actual, is(Collections.singletonList(data)));
+    }
+    
+    @Test
+    void assertProcessInSubBatches() {
+        List<List<Object>> actual = new CopyOnWriteArrayList<>();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Object> data = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        new SubBatchProcessor(10, 4).process(data, each -> {
+            threads.add(Thread.currentThread());
+            actual.add(each);
+        });
+        assertThat(actual.size(), is(10));
+        assertThat(actual.stream().flatMap(List::stream).sorted().collect(Collectors.toList()), is(data));
+        assertThat(threads.size() <= 4, is(true));
+    }
+    
+    @Test
+    void assertProcessInSubBatchesWithRejectedExecution() {
+        List<List<Object>> actual = new CopyOnWriteArrayList<>();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Object> data = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        new SubBatchProcessor(10, 4, command -> {
+            throw new RejectedExecutionException();
+        }).process(data, each -> {
+            threads.add(Thread.currentThread());
+            actual.add(each);
+        });
+        assertThat(actual.size(), is(10));
+        assertThat(actual.stream().flatMap(List::stream).sorted().collect(Collectors.toList()), is(data));
+        assertThat(threads, is(Collections.singleton(Thread.currentThread())));
+    }
+    
+    @Test
+    void assertProcessWithFailedSubBatches() {
+        List<Object> data = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        List<List<Object>> processed = new CopyOnWriteArrayList<>();
+        JobExecutionException actual = assertThrows(JobExecutionException.class, () -> new SubBatchProcessor(3, 2).process(data, each -> {
+            if (each.contains(0) || each.contains(9)) {
+                throw new IllegalStateException("failure of " + each);
+            }
+            processed.add(each);
+        }));
+        assertThat(actual.getMessage(), is("Process data failed in 2 of 4 sub-batches, failed data ranges are [[0, 3), [9, 10)]."));
+        assertThat(actual.getCause().getMessage(), is("failure of [0, 1, 2]"));
+        assertThat(actual.getSuppressed()[0].getMessage(), is("failure of [9]"));
+        assertThat(processed.size(), is(2));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.job;
+
+import org.apache.shardingsphere.elasticjob.api.ShardingContext;
+import org.apache.shardingsphere.elasticjob.executor.JobFacade;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataflowCheckpointTest {
+    
+    @Mock
+    private JobFacade jobFacade;
+    
+    @Test
+    void assertOfUnboundShardingContext() {
+        assertThrows(JobSystemException.class, () -> DataflowCheckpoint.of(new ShardingContext("unbound_job", "fake_task_id", 2, "", 0, "")));
+    }
+    
+    @Test
+    void assertOfAnotherShardingContextOfSameJob() {
+        ShardingContext shardingContext = new ShardingContext("test_job", "fake_task_id", 2, "", 1, "");
+        DataflowCheckpoint.bind(shardingContext, jobFacade);
+        try {
+            assertThrows(JobSystemException.class, () -> DataflowCheckpoint.of(new ShardingContext("test_job", "fake_task_id", 2, "", 1, "")));
+        } finally {
+            DataflowCheckpoint.unbind(shardingContext);
+        }
+    }
+    
+    @Test
+    void assertOfUnboundShardingContextAfterUnbind() {
+        ShardingContext shardingContext = new ShardingContext("test_job", "fake_task_id", 2, "", 1, "");
+        DataflowCheckpoint.bind(shardingContext, jobFacade);
+        DataflowCheckpoint.unbind(shardingContext);
+        assertThrows(JobSystemException.class, () -> DataflowCheckpoint.of(shardingContext));
+    }
+    
+    @Test
+    void assertGetLastOffset() {
+        ShardingContext shardingContext = new ShardingContext("test_job", "fake_task_id", 2, "", 1, "");
+        DataflowCheckpoint.bind(shardingContext, jobFacade);
+        when(jobFacade.loadCheckpoint(1)).thenReturn("100");
+        try {
+            assertThat(DataflowCheckpoint.of(shardingContext).getLastOffset(), is("100"));
+        } finally {
+            DataflowCheckpoint.unbind(shardingContext);
+        }
+    }
+    
+    @Test
+    void assertCommitOffset() {
+        ShardingContext shardingContext = new ShardingContext("test_job", "fake_task_id", 2, "", 1, "");
+        DataflowCheckpoint.bind(shardingContext, jobFacade);
+        try {
+            DataflowCheckpoint.of(shardingContext).commitOffset("200");
+        } finally {
+            DataflowCheckpoint.unbind(shardingContext);
+        }
+        verify(jobFacade).commitCheckpoint(1, "200");
+    }
+}
@@ -73,13 +73,24 @@ public final class JobTracingEventBus {
         }
     }
     
+    /**
+     * Judge whether events are accepted.
+     * 
+     * <p>Events are dropped by {@link #post(JobEvent)} if not accepted, callers could skip building them.</p>
+     *
+     * @return events are accepted or not
+     */
+    public boolean isEnabled() {
+        return isRegistered && !EXECUTOR_SERVICE.isShutdown();
+    }
+    
     /**
      * Post event.
      *
      * @param event job event
      */
     public void post(final JobEvent event) {
-        if (isRegistered && !EXECUTOR_SERVICE.isShutdown()) {
+        if (isEnabled()) {
             eventBus.post(event);
         }
     }
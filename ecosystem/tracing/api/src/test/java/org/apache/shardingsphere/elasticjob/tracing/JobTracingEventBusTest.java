@@ -34,6 +34,8 @@ import java.lang.reflect.Field;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -52,12 +54,14 @@ class JobTracingEventBusTest {
     void assertRegisterFailure() {
         jobTracingEventBus = new JobTracingEventBus(new TracingConfiguration<>("FAIL", null));
         assertIsRegistered(false);
+        assertFalse(jobTracingEventBus.isEnabled());
     }
     
     @Test
     void assertPost() throws InterruptedException {
         jobTracingEventBus = new JobTracingEventBus(new TracingConfiguration<>("TEST", jobEventCaller));
         assertIsRegistered(true);
+        assertTrue(jobTracingEventBus.isEnabled());
         jobTracingEventBus.post(new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_event_bus_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0));
         while (!TestTracingListener.isExecutionEventCalled()) {
             Thread.sleep(100L);
@@ -69,6 +73,7 @@ class JobTracingEventBusTest {
     void assertPostWithoutListener() throws ReflectiveOperationException {
         jobTracingEventBus = new JobTracingEventBus();
         assertIsRegistered(false);
+        assertFalse(jobTracingEventBus.isEnabled());
         Field field = JobTracingEventBus.class.getDeclaredField("eventBus");
         field.setAccessible(true);
         field.set(jobTracingEventBus, eventBus);
@@ -23,6 +23,8 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -37,11 +39,21 @@ public final class ElasticJobExecutorService {
     
     public ElasticJobExecutorService(final String namingPattern, final int threadSize) {
         workQueue = new LinkedBlockingQueue<>();
-        threadPoolExecutor = new ThreadPoolExecutor(
-                threadSize, threadSize, 5L, TimeUnit.MINUTES, workQueue, new BasicThreadFactory.Builder().namingPattern(String.join("-", namingPattern, "%s")).build());
+        threadPoolExecutor = new ThreadPoolExecutor(threadSize, threadSize, 5L, TimeUnit.MINUTES, workQueue,
+                new BasicThreadFactory.Builder().namingPattern(String.join("-", namingPattern, "%s")).build());
         threadPoolExecutor.allowCoreThreadTimeOut(true);
     }
     
+    /**
+     * Create executor service which starts a new thread for each task, and threads are terminated once their tasks finished.
+     * 
+     * @param threadFactory thread factory
+     */
+    public ElasticJobExecutorService(final ThreadFactory threadFactory) {
+        workQueue = new SynchronousQueue<>();
+        threadPoolExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, workQueue, threadFactory);
+    }
+    
     /**
      * Create executor service.
      *
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.context;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map keyed by sharding items.
+ * 
+ * <p>
+ * Sharding items are kept in a bit set and values in an array indexed by sharding item,
+ * so no entry or boxed key is allocated per sharding item, and keys are iterated in ascending order.
+ * </p>
+ * 
+ * @param <V> type of value
+ */
+public final class ShardingItemMap<V> extends AbstractMap<Integer, V> implements Serializable {
+    
+    private static final long serialVersionUID = 2951620284961286624L;
+    
+    private final BitSet items;
+    
+    private Object[] values;
+    
+    public ShardingItemMap(final int shardingTotalCount) {
+        items = new BitSet(shardingTotalCount);
+        values = new Object[shardingTotalCount];
+    }
+    
+    /**
+     * Put value of sharding item.
+     * 
+     * @param item sharding item
+     * @param value value
+     * @return previous value
+     * @throws IllegalArgumentException if sharding item is negative
+     */
+    public V put(final int item, final V value) {
+        if (item < 0) {
+            throw new IllegalArgumentException(String.format("Sharding item '%d' should not be negative.", item));
+        }
+        if (item >= values.length) {
+            values = Arrays.copyOf(values, Math.max(item + 1, values.length * 2));
+        }
+        V result = getValue(item);
+        items.set(item);
+        values[item] = value;
+        return result;
+    }
+    
+    @Override
+    public V put(final Integer key, final V value) {
+        return put(key.intValue(), value);
+    }
+    
+    /**
+     * Get value of sharding item.
+     * 
+     * @param item sharding item
+     * @return value, null if absent
+     */
+    public V get(final int item) {
+        return containsKey(item) ? getValue(item) : null;
+    }
+    
+    @Override
+    public V get(final Object key) {
+        return key instanceof Integer ? get(((Integer) key).intValue()) : null;
+    }
+    
+    /**
+     * Judge whether sharding item is contained or not.
+     * 
+     * @param item sharding item
+     * @return sharding item is contained or not
+     */
+    public boolean containsKey(final int item) {
+        return item >= 0 && items.get(item);
+    }
+    
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof Integer && containsKey(((Integer) key).intValue());
+    }
+    
+    @Override
+    public V remove(final Object key) {
+        if (!containsKey(key)) {
+            return null;
+        }
+        int item = (Integer) key;
+        V result = getValue(item);
+        items.clear(item);
+        values[item] = null;
+        return result;
+    }
+    
+    @Override
+    public void clear() {
+        items.clear();
+        Arrays.fill(values, null);
+    }
+    
+    @Override
+    public int size() {
+        return items.cardinality();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private V getValue(final int item) {
+        return (V) values[item];
+    }
+    
+    @Override
+    public Set<Integer> keySet() {
+        return new AbstractSet<Integer>() {
+            
+            @Override
+            public Iterator<Integer> iterator() {
+                return new ItemIterator<Integer>() {
+                    
+                    @Override
+                    Integer get(final int item) {
+                        return item;
+                    }
+                };
+            }
+            
+            @Override
+            public boolean contains(final Object key) {
+                return containsKey(key);
+            }
+            
+            @Override
+            public int size() {
+                return ShardingItemMap.this.size();
+            }
+        };
+    }
+    
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        return new AbstractSet<Entry<Integer, V>>() {
+            
+            @Override
+            public Iterator<Entry<Integer, V>> iterator() {
+                return new ItemIterator<Entry<Integer, V>>() {
+                    
+                    @Override
+                    Entry<Integer, V> get(final int item) {
+                        return new SimpleImmutableEntry<>(item, getValue(item));
+                    }
+                };
+            }
+            
+            @Override
+            public int size() {
+                return ShardingItemMap.this.size();
+            }
+        };
+    }
+    
+    private abstract class ItemIterator<E> implements Iterator<E> {
+        
+        private int next = items.nextSetBit(0);
+        
+        private int last = -1;
+        
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+        
+        @Override
+        public E next() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = items.nextSetBit(next + 1);
+            return get(last);
+        }
+        
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            ShardingItemMap.this.remove(last);
+            last = -1;
+        }
+        
+        abstract E get(int item);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Sharding item ranges, compact text form of sharding items.
+ * 
+ * <p>
+ * Sharding items are sorted and deduplicated, runs of at least three consecutive items are written as ranges, e.g. items 0 to 99 and 150 are written as {@code 0-99,150}.
+ * Plain comma split items are parsed as well.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingItemRanges {
+    
+    private static final char ITEM_SEPARATOR = ',';
+    
+    private static final char RANGE_SEPARATOR = '-';
+    
+    private static final int MIN_RANGE_LENGTH = 3;
+    
+    /**
+     * Format sharding items.
+     * 
+     * @param shardingItems sharding items
+     * @return compact text of sharding items
+     */
+    public static String format(final Collection<Integer> shardingItems) {
+        if (shardingItems.isEmpty()) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder();
+        Integer begin = null;
+        int end = 0;
+        for (int each : new TreeSet<>(shardingItems)) {
+            if (null != begin && each == end + 1) {
+                end = each;
+                continue;
+            }
+            if (null != begin) {
+                appendRun(result, begin, end);
+            }
+            begin = each;
+            end = each;
+        }
+        appendRun(result, begin, end);
+        return result.toString();
+    }
+    
+    private static void appendRun(final StringBuilder builder, final int begin, final int end) {
+        if (builder.length() > 0) {
+            builder.append(ITEM_SEPARATOR);
+        }
+        if (end - begin + 1 >= MIN_RANGE_LENGTH) {
+            builder.append(begin).append(RANGE_SEPARATOR).append(end);
+            return;
+        }
+        for (int i = begin; i <= end; i++) {
+            if (i > begin) {
+                builder.append(ITEM_SEPARATOR);
+            }
+            builder.append(i);
+        }
+    }
+    
+    /**
+     * Parse sharding items.
+     * 
+     * @param text compact text or comma split text of sharding items
+     * @return sharding items
+     * @throws NumberFormatException if text is not sharding items
+     */
+    public static List<Integer> parse(final String text) {
+        if (text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Integer> result = new ArrayList<>();
+        int begin = 0;
+        while (begin <= text.length()) {
+            int end = text.indexOf(ITEM_SEPARATOR, begin);
+            if (-1 == end) {
+                end = text.length();
+            }
+            int rangeSeparator = text.indexOf(RANGE_SEPARATOR, begin + 1);
+            if (-1 == rangeSeparator || rangeSeparator >= end) {
+                result.add(Integer.parseInt(text.substring(begin, end)));
+            } else {
+                int rangeEnd = Integer.parseInt(text.substring(rangeSeparator + 1, end));
+                for (int i = Integer.parseInt(text.substring(begin, rangeSeparator)); i <= rangeEnd; i++) {
+                    result.add(i);
+                }
+            }
+            begin = end + 1;
+        }
+        return result;
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.elasticjob.infra.context;
 
 import com.google.common.base.Preconditions;
-import com.google.common.base.Splitter;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +27,6 @@ import lombok.ToString;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Task runtime context.
@@ -143,14 +141,22 @@ public final class TaskContext {
         public static MetaInfo from(final String value) {
             String[] result = value.split(DELIMITER);
             Preconditions.checkState(1 == result.length || 2 == result.length || 5 == result.length);
-            return new MetaInfo(result[0], 1 == result.length || "".equals(result[1])
-                    ? Collections.emptyList()
-                    : Splitter.on(",").splitToList(result[1]).stream().map(Integer::parseInt).collect(Collectors.toList()));
+            return new MetaInfo(result[0], 1 == result.length ? Collections.emptyList() : ShardingItemRanges.parse(result[1]));
+        }
+        
+        /**
+         * Get compact text of sharding items.
+         *
+         * @return compact text of sharding items
+         * @see ShardingItemRanges
+         */
+        public String getShardingItemsText() {
+            return ShardingItemRanges.format(shardingItems);
         }
         
         @Override
         public final String toString() {
-            return String.join(DELIMITER, jobName, shardingItems.stream().map(Object::toString).collect(Collectors.joining(",")));
+            return String.join(DELIMITER, jobName, getShardingItemsText());
         }
     }
 }
@@ -40,6 +40,16 @@ public final class JobInstance {
     
     private String serverIp;
     
+    /**
+     * Capacity weight, null if not published.
+     */
+    private Integer weight;
+    
+    /**
+     * Name which identifies job instance on its server across restarts, null if not published.
+     */
+    private String instanceName;
+    
     public JobInstance() {
         this(IpUtils.getIp() + DELIMITER + ManagementFactory.getRuntimeMXBean().getName().split("@")[0]);
     }
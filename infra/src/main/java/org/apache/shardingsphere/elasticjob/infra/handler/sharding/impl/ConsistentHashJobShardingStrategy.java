@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobShardingStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding strategy which for consistent hash.
+ * 
+ * <p>
+ * Each sharding item is assigned to the job instance with the highest hash of job name, sharding item and job instance (rendezvous hashing),
+ * which has not been assigned more than 1.25 times of the average count of sharding items.
+ * Job instances are identified by host and published instance name instead of process ID, so restarting job instances does not move sharding items,
+ * and adding or removing one of N job instances moves about 1/N of sharding items.
+ * Job instances without instance name are identified by host and their order on the host,
+ * which is stable only if there is one job instance without instance name on each host.
+ * </p>
+ */
+public final class ConsistentHashJobShardingStrategy implements JobShardingStrategy {
+    
+    private static final double LOAD_FACTOR = 1.25D;
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> hashKeys = getHashKeys(jobInstances);
+        int capacity = (int) Math.ceil(shardingTotalCount * LOAD_FACTOR / jobInstances.size());
+        List<List<Integer>> shardingItems = new ArrayList<>(jobInstances.size());
+        for (int i = 0; i < jobInstances.size(); i++) {
+            shardingItems.add(new ArrayList<>(capacity));
+        }
+        for (int item = 0; item < shardingTotalCount; item++) {
+            int selected = -1;
+            long selectedHash = 0L;
+            for (int i = 0; i < jobInstances.size(); i++) {
+                if (shardingItems.get(i).size() >= capacity) {
+                    continue;
+                }
+                long hash = hash(jobName + '/' + item + '/' + hashKeys.get(i));
+                if (-1 == selected || hash > selectedHash) {
+                    selected = i;
+                    selectedHash = hash;
+                }
+            }
+            shardingItems.get(selected).add(item);
+        }
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        for (int i = 0; i < jobInstances.size(); i++) {
+            result.put(jobInstances.get(i), shardingItems.get(i));
+        }
+        return result;
+    }
+    
+    private List<String> getHashKeys(final List<JobInstance> jobInstances) {
+        List<JobInstance> sortedJobInstances = new ArrayList<>(jobInstances);
+        sortedJobInstances.sort(Comparator.comparing(JobInstance::getJobInstanceId));
+        Map<String, Integer> hostCounts = new HashMap<>();
+        Map<JobInstance, String> hashKeys = new HashMap<>(jobInstances.size(), 1);
+        for (JobInstance each : sortedJobInstances) {
+            String host = each.getJobInstanceId().split(JobInstance.DELIMITER)[0];
+            if (null == each.getInstanceName() || each.getInstanceName().isEmpty()) {
+                hashKeys.put(each, host + '#' + hostCounts.merge(host, 1, Integer::sum));
+            } else {
+                hashKeys.put(each, host + '/' + each.getInstanceName());
+            }
+        }
+        List<String> result = new ArrayList<>(jobInstances.size());
+        for (JobInstance each : jobInstances) {
+            result.add(hashKeys.get(each));
+        }
+        return result;
+    }
+    
+    private long hash(final String value) {
+        long result = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            result ^= value.charAt(i);
+            result *= 0x100000001b3L;
+        }
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "CONSISTENT_HASH";
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.DurationAwareJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Sharding strategy which for balancing execution durations.
+ * 
+ * <p>
+ * Sharding items are sorted by estimated execution duration descending, then each of them is assigned to the job instance with the least total duration (longest processing time first),
+ * so that the job instances finish at about the same time.
+ * Sharding items without estimation are treated as the average duration of the others, and durations shorter than 1 millisecond are treated as 1 millisecond.
+ * 
+ * For example:
+ * 
+ * If there are 2 job servers and durations of sharding items are 0=[10], 1=[20], 2=[20], 3=[30], 4=[40], each job server is divided into: 1=[2,4], 2=[0,1,3].
+ * </p>
+ */
+public final class DurationBalancedJobShardingStrategy implements DurationAwareJobShardingStrategy {
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        return sharding(jobInstances, jobName, shardingTotalCount, Collections.emptyMap());
+    }
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount, final Map<Integer, Long> itemDurations) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        long[] durations = getDurations(shardingTotalCount, itemDurations);
+        List<Integer> items = new ArrayList<>(shardingTotalCount);
+        for (int i = 0; i < shardingTotalCount; i++) {
+            items.add(i);
+        }
+        items.sort(Comparator.comparingLong((Integer each) -> durations[each]).reversed().thenComparingInt(each -> each));
+        List<List<Integer>> shardingItems = new ArrayList<>(jobInstances.size());
+        PriorityQueue<long[]> loads = new PriorityQueue<>(jobInstances.size(), Comparator.<long[]>comparingLong(each -> each[0]).thenComparingLong(each -> each[1]));
+        for (int i = 0; i < jobInstances.size(); i++) {
+            shardingItems.add(new ArrayList<>());
+            loads.add(new long[]{0L, i});
+        }
+        for (int each : items) {
+            long[] load = loads.poll();
+            shardingItems.get((int) load[1]).add(each);
+            load[0] += durations[each];
+            loads.add(load);
+        }
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        for (int i = 0; i < jobInstances.size(); i++) {
+            Collections.sort(shardingItems.get(i));
+            result.put(jobInstances.get(i), shardingItems.get(i));
+        }
+        return result;
+    }
+    
+    private long[] getDurations(final int shardingTotalCount, final Map<Integer, Long> itemDurations) {
+        long durationSum = 0L;
+        int estimatedCount = 0;
+        for (int i = 0; i < shardingTotalCount; i++) {
+            Long duration = itemDurations.get(i);
+            if (null != duration && duration >= 0L) {
+                durationSum += duration;
+                estimatedCount++;
+            }
+        }
+        long defaultDuration = 0 == estimatedCount ? 1L : Math.max(1L, durationSum / estimatedCount);
+        long[] result = new long[shardingTotalCount];
+        for (int i = 0; i < shardingTotalCount; i++) {
+            Long duration = itemDurations.get(i);
+            result[i] = null != duration && duration >= 0L ? Math.max(1L, duration) : defaultDuration;
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "DURATION_BALANCED";
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobShardingStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding strategy which for weight of job instance.
+ * 
+ * <p>
+ * Sharding items are divided in proportion to weights of job instances, the redundant sharding items are added to the job instances with the largest remainders.
+ * Job instances which do not publish weight are treated as the average weight of the others.
+ * 
+ * For example:
+ * 
+ * 1. If there are 2 job servers with weights 4 and 12, and the total sharding count is 8, each job server is divided into: 1=[0,1], 2=[2,3,4,5,6,7];
+ * 2. If there are 3 job servers with weights 1, 1 and 2, and the total sharding count is 10, each job server is divided into: 1=[0,1,2], 2=[3,4], 3=[5,6,7,8,9].
+ * </p>
+ */
+public final class WeightedJobShardingStrategy implements JobShardingStrategy {
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        int[] itemCounts = getItemCounts(getWeights(jobInstances), shardingTotalCount);
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        int item = 0;
+        for (int i = 0; i < jobInstances.size(); i++) {
+            List<Integer> shardingItems = new ArrayList<>(itemCounts[i]);
+            for (int j = 0; j < itemCounts[i]; j++) {
+                shardingItems.add(item++);
+            }
+            result.put(jobInstances.get(i), shardingItems);
+        }
+        return result;
+    }
+    
+    private double[] getWeights(final List<JobInstance> jobInstances) {
+        double publishedWeightSum = 0D;
+        int publishedCount = 0;
+        for (JobInstance each : jobInstances) {
+            if (null != each.getWeight() && each.getWeight() > 0) {
+                publishedWeightSum += each.getWeight();
+                publishedCount++;
+            }
+        }
+        double defaultWeight = 0 == publishedCount ? 1D : publishedWeightSum / publishedCount;
+        double[] result = new double[jobInstances.size()];
+        for (int i = 0; i < jobInstances.size(); i++) {
+            Integer weight = jobInstances.get(i).getWeight();
+            result[i] = null != weight && weight > 0 ? weight : defaultWeight;
+        }
+        return result;
+    }
+    
+    private int[] getItemCounts(final double[] weights, final int shardingTotalCount) {
+        double weightSum = 0D;
+        for (double each : weights) {
+            weightSum += each;
+        }
+        int[] result = new int[weights.length];
+        double[] remainders = new double[weights.length];
+        int assignedCount = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double quota = shardingTotalCount * weights[i] / weightSum;
+            result[i] = (int) quota;
+            remainders[i] = quota - result[i];
+            assignedCount += result[i];
+        }
+        for (; assignedCount < shardingTotalCount; assignedCount++) {
+            int largest = 0;
+            for (int i = 1; i < remainders.length; i++) {
+                if (remainders[i] > remainders[largest]) {
+                    largest = i;
+                }
+            }
+            result[largest]++;
+            remainders[largest] = -1D;
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "WEIGHTED";
+    }
+}
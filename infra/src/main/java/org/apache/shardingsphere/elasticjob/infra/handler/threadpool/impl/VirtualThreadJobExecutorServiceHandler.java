@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.threadpool.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.concurrent.ElasticJobExecutorService;
+import org.apache.shardingsphere.elasticjob.infra.handler.threadpool.JobExecutorServiceHandler;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Job executor service handler with virtual threads.
+ * 
+ * <p>
+ * Each task starts a new virtual thread which is terminated once the task finished if JVM supports virtual threads,
+ * otherwise fall back to {@link CPUUsageJobExecutorServiceHandler}.
+ * </p>
+ */
+public final class VirtualThreadJobExecutorServiceHandler implements JobExecutorServiceHandler {
+    
+    private final JobExecutorServiceHandler fallbackHandler = new CPUUsageJobExecutorServiceHandler();
+    
+    @Override
+    public ExecutorService createExecutorService(final String jobName) {
+        return createVirtualThreadFactory("elasticjob-" + jobName + "-").map(threadFactory -> new ElasticJobExecutorService(threadFactory).createExecutorService())
+                .orElseGet(() -> fallbackHandler.createExecutorService(jobName));
+    }
+    
+    /**
+     * Create virtual thread factory.
+     * 
+     * @param namePrefix name prefix of virtual threads
+     * @return virtual thread factory, absent if JVM does not support virtual threads
+     */
+    static Optional<ThreadFactory> createVirtualThreadFactory(final String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL";
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.elasticjob.infra.concurrent;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -57,6 +58,33 @@ class ElasticJobExecutorServiceTest {
         hasExecuted = true;
     }
     
+    @Test
+    void assertCreateThreadPerTaskExecutorService() {
+        ElasticJobExecutorService executorServiceObject = new ElasticJobExecutorService(Thread::new);
+        ExecutorService executorService = executorServiceObject.createExecutorService();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executorService.submit(() -> awaitUninterruptibly(latch));
+            executorService.submit(() -> awaitUninterruptibly(latch));
+            Awaitility.await().atMost(1L, TimeUnit.MINUTES).untilAsserted(() -> {
+                assertThat(executorServiceObject.getActiveThreadCount(), is(2));
+                assertThat(executorServiceObject.getWorkQueueSize(), is(0));
+            });
+            latch.countDown();
+            Awaitility.await().atMost(1L, TimeUnit.MINUTES).untilAsserted(() -> assertThat(executorServiceObject.getActiveThreadCount(), is(0)));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     static class FooTask implements Runnable {
         
         @Override
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.context;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingItemMapTest {
+    
+    @Test
+    void assertPutAndGet() {
+        ShardingItemMap<String> actual = new ShardingItemMap<>(2);
+        assertTrue(actual.isEmpty());
+        assertThat(actual.put(1, "B"), nullValue());
+        assertThat(actual.put(1, "b"), is("B"));
+        actual.put(5, null);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1), is("b"));
+        assertThat(actual.get((Object) 1), is("b"));
+        assertThat(actual.get(0), nullValue());
+        assertThat(actual.get("1"), nullValue());
+        assertTrue(actual.containsKey(5));
+        assertFalse(actual.containsKey(-1));
+        assertFalse(actual.containsKey(100));
+    }
+    
+    @Test
+    void assertPutNegativeItem() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardingItemMap<String>(1).put(-1, "A"));
+    }
+    
+    @Test
+    void assertRemove() {
+        ShardingItemMap<String> actual = new ShardingItemMap<>(3);
+        actual.put(0, "A");
+        actual.put(2, "C");
+        assertThat(actual.remove(0), is("A"));
+        assertThat(actual.remove(1), nullValue());
+        assertThat(actual.keySet().size(), is(1));
+        Iterator<Integer> iterator = actual.keySet().iterator();
+        iterator.next();
+        iterator.remove();
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertEqualsToHashMap() {
+        ShardingItemMap<String> actual = new ShardingItemMap<>(3);
+        actual.put(2, "C");
+        actual.put(0, "A");
+        Map<Integer, String> expected = new HashMap<>(2, 1F);
+        expected.put(0, "A");
+        expected.put(2, "C");
+        assertThat(actual, is(expected));
+        assertThat(actual.hashCode(), is(expected.hashCode()));
+        assertThat(Arrays.asList(actual.keySet().toArray()), is(Arrays.asList(0, 2)));
+        assertTrue(actual.keySet().contains(2));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.context;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingItemRangesTest {
+    
+    @Test
+    void assertFormatEmpty() {
+        assertThat(ShardingItemRanges.format(Collections.emptyList()), is(""));
+    }
+    
+    @Test
+    void assertFormatWithoutRanges() {
+        assertThat(ShardingItemRanges.format(Arrays.asList(5, 0, 1, 3)), is("0,1,3,5"));
+    }
+    
+    @Test
+    void assertFormatWithRanges() {
+        assertThat(ShardingItemRanges.format(Arrays.asList(7, 0, 1, 2, 3, 9, 10, 11, 3, 20)), is("0-3,7,9-11,20"));
+    }
+    
+    @Test
+    void assertParseEmpty() {
+        assertTrue(ShardingItemRanges.parse("").isEmpty());
+    }
+    
+    @Test
+    void assertParseWithoutRanges() {
+        assertThat(ShardingItemRanges.parse("0,1,3,5"), is(Arrays.asList(0, 1, 3, 5)));
+    }
+    
+    @Test
+    void assertParseWithRanges() {
+        assertThat(ShardingItemRanges.parse("0-3,7,9-11"), is(Arrays.asList(0, 1, 2, 3, 7, 9, 10, 11)));
+    }
+    
+    @Test
+    void assertParseIllegalText() {
+        assertThrows(NumberFormatException.class, () -> ShardingItemRanges.parse("0-a"));
+    }
+}
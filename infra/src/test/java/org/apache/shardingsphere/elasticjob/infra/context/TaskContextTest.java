@@ -21,6 +21,7 @@ import org.apache.shardingsphere.elasticjob.infra.context.TaskContext.MetaInfo;
 import org.apache.shardingsphere.elasticjob.infra.context.fixture.TaskNode;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -77,6 +78,17 @@ class TaskContextTest {
         assertThat(actual.getShardingItems().get(0), is(1));
     }
     
+    @Test
+    void assertMetaInfoFromWithShardingItemRanges() {
+        MetaInfo actual = MetaInfo.from("test_job@-@0-2,5@-@READY@-@unassigned-slave@-@0");
+        assertThat(actual.getShardingItems(), is(Arrays.asList(0, 1, 2, 5)));
+    }
+    
+    @Test
+    void assertMetaInfoToStringWithShardingItemRanges() {
+        assertThat(new MetaInfo("test_job", Arrays.asList(0, 1, 2, 5)).toString(), is("test_job@-@0-2,5"));
+    }
+    
     @Test
     void assertMetaInfoFromWithMetaInfoWithoutShardingItems() {
         MetaInfo actual = MetaInfo.from("test_job@-@");
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class JobInstanceTest {
     
@@ -42,5 +43,21 @@ class JobInstanceTest {
         assertThat(actual.getJobInstanceId(), is("id"));
         assertThat(actual.getServerIp(), is(IpUtils.getIp()));
         assertThat(actual.getLabels(), is("labels"));
+        assertNull(actual.getWeight());
+        assertNull(actual.getInstanceName());
+    }
+    
+    @Test
+    void assertYamlConvertWithWeight() {
+        JobInstance jobInstance = new JobInstance("id");
+        jobInstance.setWeight(8);
+        assertThat(YamlEngine.unmarshal(YamlEngine.marshal(jobInstance), JobInstance.class).getWeight(), is(8));
+    }
+    
+    @Test
+    void assertYamlConvertWithInstanceName() {
+        JobInstance jobInstance = new JobInstance("id");
+        jobInstance.setInstanceName("worker-1");
+        assertThat(YamlEngine.unmarshal(YamlEngine.marshal(jobInstance), JobInstance.class).getInstanceName(), is("worker-1"));
     }
 }
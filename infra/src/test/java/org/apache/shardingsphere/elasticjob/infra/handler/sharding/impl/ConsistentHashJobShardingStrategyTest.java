@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashJobShardingStrategyTest {
+    
+    private final ConsistentHashJobShardingStrategy consistentHashJobShardingStrategy = new ConsistentHashJobShardingStrategy();
+    
+    @Test
+    void assertShardingWithoutJobInstances() {
+        assertTrue(consistentHashJobShardingStrategy.sharding(Collections.emptyList(), "test_job", 3).isEmpty());
+    }
+    
+    @Test
+    void assertShardingAllItems() {
+        Map<JobInstance, List<Integer>> actual = consistentHashJobShardingStrategy.sharding(createJobInstances(3, 0), "test_job", 10);
+        assertThat(actual.size(), is(3));
+        List<Integer> items = new ArrayList<>();
+        for (List<Integer> each : actual.values()) {
+            assertThat(each.size(), lessThanOrEqualTo(5));
+            items.addAll(each);
+        }
+        Collections.sort(items);
+        assertThat(items, is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+    
+    @Test
+    void assertShardingIsStable() {
+        List<JobInstance> jobInstances = createJobInstances(3, 0);
+        List<JobInstance> reversedJobInstances = new ArrayList<>(jobInstances);
+        Collections.reverse(reversedJobInstances);
+        assertThat(getAssignment(consistentHashJobShardingStrategy.sharding(jobInstances, "test_job", 20)),
+                is(getAssignment(consistentHashJobShardingStrategy.sharding(reversedJobInstances, "test_job", 20))));
+    }
+    
+    @Test
+    void assertShardingAfterRollingRestart() {
+        Map<Integer, String> before = getAssignment(consistentHashJobShardingStrategy.sharding(createJobInstances(4, 0), "test_job", 100));
+        Map<Integer, String> after = getAssignment(consistentHashJobShardingStrategy.sharding(createJobInstances(4, 1), "test_job", 100));
+        assertThat(countMovedItems(before, after), is(0));
+    }
+    
+    @Test
+    void assertShardingAfterRestartingNamedJobInstanceOnSameHost() {
+        List<JobInstance> before = Arrays.asList(createNamedJobInstance("host0@-@5", "worker-a"), createNamedJobInstance("host0@-@9", "worker-b"));
+        List<JobInstance> after = Arrays.asList(createNamedJobInstance("host0@-@12", "worker-a"), createNamedJobInstance("host0@-@9", "worker-b"));
+        assertThat(countMovedItems(getNamedAssignment(consistentHashJobShardingStrategy.sharding(before, "test_job", 100)),
+                getNamedAssignment(consistentHashJobShardingStrategy.sharding(after, "test_job", 100))), is(0));
+    }
+    
+    @Test
+    void assertShardingAfterAddingJobInstance() {
+        Map<Integer, String> before = getAssignment(consistentHashJobShardingStrategy.sharding(createJobInstances(4, 0), "test_job", 100));
+        Map<Integer, String> after = getAssignment(consistentHashJobShardingStrategy.sharding(createJobInstances(5, 0), "test_job", 100));
+        assertThat(countMovedItems(before, after), lessThanOrEqualTo(30));
+    }
+    
+    @Test
+    void assertShardingAfterRemovingJobInstance() {
+        Map<Integer, String> before = getAssignment(consistentHashJobShardingStrategy.sharding(createJobInstances(5, 0), "test_job", 100));
+        Map<Integer, String> after = getAssignment(consistentHashJobShardingStrategy.sharding(createJobInstances(4, 0), "test_job", 100));
+        assertThat(countMovedItems(before, after), lessThanOrEqualTo(30));
+    }
+    
+    private List<JobInstance> createJobInstances(final int count, final int processId) {
+        List<JobInstance> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new JobInstance("host" + i + "@-@" + processId));
+        }
+        return result;
+    }
+    
+    private JobInstance createNamedJobInstance(final String jobInstanceId, final String instanceName) {
+        JobInstance result = new JobInstance(jobInstanceId);
+        result.setInstanceName(instanceName);
+        return result;
+    }
+    
+    private Map<Integer, String> getNamedAssignment(final Map<JobInstance, List<Integer>> shardingResults) {
+        Map<Integer, String> result = new HashMap<>();
+        for (Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
+            for (int each : entry.getValue()) {
+                result.put(each, entry.getKey().getInstanceName());
+            }
+        }
+        return result;
+    }
+    
+    private Map<Integer, String> getAssignment(final Map<JobInstance, List<Integer>> shardingResults) {
+        Map<Integer, String> result = new HashMap<>();
+        for (Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
+            for (int each : entry.getValue()) {
+                result.put(each, entry.getKey().getJobInstanceId().split(JobInstance.DELIMITER)[0]);
+            }
+        }
+        return result;
+    }
+    
+    private int countMovedItems(final Map<Integer, String> before, final Map<Integer, String> after) {
+        int result = 0;
+        for (Entry<Integer, String> entry : before.entrySet()) {
+            if (!entry.getValue().equals(after.get(entry.getKey()))) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurationBalancedJobShardingStrategyTest {
+    
+    private final DurationBalancedJobShardingStrategy durationBalancedJobShardingStrategy = new DurationBalancedJobShardingStrategy();
+    
+    @Test
+    void assertShardingWithoutJobInstances() {
+        assertTrue(durationBalancedJobShardingStrategy.sharding(Collections.emptyList(), "test_job", 3).isEmpty());
+    }
+    
+    @Test
+    void assertShardingWithoutDurations() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>();
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 2, 4));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(1, 3));
+        assertThat(durationBalancedJobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 5), is(expected));
+    }
+    
+    @Test
+    void assertShardingWithDurations() {
+        Map<Integer, Long> itemDurations = new HashMap<>();
+        itemDurations.put(0, 10L);
+        itemDurations.put(1, 20L);
+        itemDurations.put(2, 20L);
+        itemDurations.put(3, 30L);
+        itemDurations.put(4, 40L);
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>();
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(2, 4));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(0, 1, 3));
+        assertThat(durationBalancedJobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 5, itemDurations), is(expected));
+    }
+    
+    @Test
+    void assertShardingWithZeroDurations() {
+        Map<Integer, Long> itemDurations = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            itemDurations.put(i, 0L);
+        }
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>();
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 2));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(1, 3));
+        assertThat(durationBalancedJobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 4, itemDurations), is(expected));
+    }
+    
+    @Test
+    void assertShardingWithHeavyItem() {
+        Map<Integer, Long> itemDurations = new HashMap<>();
+        itemDurations.put(0, 200L);
+        itemDurations.put(1, 10L);
+        itemDurations.put(2, 10L);
+        itemDurations.put(3, 10L);
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>();
+        expected.put(new JobInstance("host0@-@0"), Collections.singletonList(0));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(1, 2, 3, 4, 5));
+        assertThat(durationBalancedJobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 6, itemDurations), is(expected));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.sharding.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightedJobShardingStrategyTest {
+    
+    private final WeightedJobShardingStrategy weightedJobShardingStrategy = new WeightedJobShardingStrategy();
+    
+    @Test
+    void assertShardingWithoutJobInstances() {
+        assertTrue(weightedJobShardingStrategy.sharding(Collections.emptyList(), "test_job", 3).isEmpty());
+    }
+    
+    @Test
+    void assertShardingByWeight() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>();
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(2, 3, 4, 5, 6, 7));
+        assertThat(weightedJobShardingStrategy.sharding(Arrays.asList(createJobInstance("host0@-@0", 4), createJobInstance("host1@-@0", 12)), "test_job", 8), is(expected));
+    }
+    
+    @Test
+    void assertShardingWithRemainders() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>();
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(3, 4));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(5, 6, 7, 8, 9));
+        assertThat(weightedJobShardingStrategy.sharding(
+                Arrays.asList(createJobInstance("host0@-@0", 1), createJobInstance("host1@-@0", 1), createJobInstance("host2@-@0", 2)), "test_job", 10), is(expected));
+    }
+    
+    @Test
+    void assertShardingWithUnpublishedWeight() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>();
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(3, 4, 5));
+        assertThat(weightedJobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), createJobInstance("host1@-@0", 8)), "test_job", 6), is(expected));
+    }
+    
+    private JobInstance createJobInstance(final String jobInstanceId, final int weight) {
+        JobInstance result = new JobInstance(jobInstanceId);
+        result.setWeight(weight);
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.infra.handler.threadpool.impl;
+
+import org.apache.shardingsphere.elasticjob.infra.handler.threadpool.JobExecutorServiceHandlerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class VirtualThreadJobExecutorServiceHandlerTest {
+    
+    @Test
+    void assertGetType() {
+        assertThat(JobExecutorServiceHandlerFactory.getHandler("VIRTUAL").getType(), is("VIRTUAL"));
+    }
+    
+    @Test
+    void assertCreateExecutorService() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorService executorService = JobExecutorServiceHandlerFactory.getHandler("VIRTUAL").createExecutorService("test_job");
+        try {
+            assertThat(executorService.submit(() -> Thread.currentThread().getName()).get(10L, TimeUnit.SECONDS), startsWith("elasticjob-test_job-"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    void assertCreateVirtualThreadFactory() {
+        assertThat(VirtualThreadJobExecutorServiceHandler.createVirtualThreadFactory("test-").isPresent(), is(isVirtualThreadSupported()));
+    }
+    
+    private boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.api.props;
+
+/**
+ * Kernel job properties, which are available for all job types.
+ */
+public final class KernelJobProperties {
+    
+    /**
+     * Whether store sharding result of all sharding items in one compact assignment node.
+     */
+    public static final String COMPACT_SHARDING_ASSIGNMENT_KEY = "sharding.assignment.compact";
+    
+    /**
+     * Whether schedule job by the scheduler shared by jobs in the same JVM.
+     */
+    public static final String SHARED_SCHEDULER_KEY = "scheduler.shared";
+    
+    /**
+     * Max count of crashed sharding items claimed in one failover round.
+     */
+    public static final String FAILOVER_CLAIM_BATCH_SIZE_KEY = "failover.claim.batch.size";
+    
+    /**
+     * Min interval in milliseconds between two flushes of committed checkpoints of sharding items.
+     */
+    public static final String CHECKPOINT_FLUSH_INTERVAL_MILLISECONDS_KEY = "checkpoint.flush.interval.milliseconds";
+}
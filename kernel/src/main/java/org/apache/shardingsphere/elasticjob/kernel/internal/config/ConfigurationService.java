@@ -27,6 +27,9 @@ import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.infra.env.TimeService;
 import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
 
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Configuration service.
  */
@@ -36,7 +39,10 @@ public final class ConfigurationService {
     
     private final JobNodeStorage jobNodeStorage;
     
+    private final String jobName;
+    
     public ConfigurationService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         timeService = new TimeService();
     }
@@ -44,24 +50,50 @@ public final class ConfigurationService {
     /**
      * Load job configuration.
      * 
+     * <p>Configuration loaded from cache is decoded at most once per data version of configuration node, if the registry center knows the cached data version.</p>
+     * 
      * @param fromCache load from cache or not
      * @return job configuration
      */
     public JobConfiguration load(final boolean fromCache) {
-        String result;
-        if (fromCache) {
-            result = jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT);
-            if (null == result) {
-                result = jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT);
-            }
-        } else {
-            result = jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT);
+        if (!fromCache) {
+            return decode(jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT));
+        }
+        long version = jobNodeStorage.getJobNodeDataVersion(ConfigurationNode.ROOT);
+        if (0L >= version) {
+            return loadFromCacheData();
         }
-        if (result != null) {
-            return YamlEngine.unmarshal(result, JobConfigurationPOJO.class).toJobConfiguration();
-        } else {
+        Optional<JobConfiguration> cachedJobConfig = JobConfigurationCache.getInstance().get(jobName, version);
+        if (cachedJobConfig.isPresent()) {
+            return cachedJobConfig.get();
+        }
+        JobConfiguration result = loadFromCacheData();
+        JobConfigurationCache.getInstance().put(jobName, version, result);
+        return result;
+    }
+    
+    private JobConfiguration loadFromCacheData() {
+        String data = jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT);
+        return decode(null == data ? jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT) : data);
+    }
+    
+    /**
+     * Load sharding item parameters of job configuration.
+     * 
+     * <p>Sharding item parameters of job configuration loaded from cache are parsed at most once per data version of configuration node.</p>
+     * 
+     * @param jobConfig job configuration
+     * @return read-only sharding item parameters, indexed by sharding items less than sharding total count
+     */
+    public Map<Integer, String> loadShardingItemParameters(final JobConfiguration jobConfig) {
+        return JobConfigurationCache.getInstance().getShardingItemParameters(jobName, jobConfig);
+    }
+    
+    private JobConfiguration decode(final String data) {
+        if (null == data) {
             throw new JobConfigurationException("JobConfiguration was not found. It maybe has been removed or has not been configured correctly.");
         }
+        return YamlEngine.unmarshal(data, JobConfigurationPOJO.class).toJobConfiguration();
     }
     
     /**
@@ -75,6 +107,7 @@ public final class ConfigurationService {
         checkConflictJob(jobClassName, jobConfig);
         if (!jobNodeStorage.isJobNodeExisted(ConfigurationNode.ROOT) || jobConfig.isOverwrite()) {
             jobNodeStorage.replaceJobNode(ConfigurationNode.ROOT, YamlEngine.marshal(JobConfigurationPOJO.fromJobConfiguration(jobConfig)));
+            JobConfigurationCache.getInstance().invalidate(jobName);
             jobNodeStorage.replaceJobRootNode(jobClassName);
             return jobConfig;
         }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.infra.context.ShardingItemMap;
+import org.apache.shardingsphere.elasticjob.infra.context.ShardingItemParameters;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoded job configuration cache, each job holds the configuration decoded from the latest known data version.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobConfigurationCache {
+    
+    private static volatile JobConfigurationCache instance;
+    
+    private final Map<String, VersionedJobConfiguration> jobConfigs = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of job configuration cache.
+     * 
+     * @return instance of job configuration cache
+     */
+    public static JobConfigurationCache getInstance() {
+        if (null == instance) {
+            synchronized (JobConfigurationCache.class) {
+                if (null == instance) {
+                    instance = new JobConfigurationCache();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Get job configuration decoded from specified data version.
+     * 
+     * @param jobName job name
+     * @param version data version of configuration node
+     * @return job configuration
+     */
+    public Optional<JobConfiguration> get(final String jobName, final long version) {
+        VersionedJobConfiguration result = jobConfigs.get(jobName);
+        return null != result && version == result.getVersion() ? Optional.of(result.getJobConfig()) : Optional.empty();
+    }
+    
+    /**
+     * Put job configuration decoded from specified data version.
+     * 
+     * @param jobName job name
+     * @param version data version of configuration node
+     * @param jobConfig job configuration
+     */
+    public void put(final String jobName, final long version, final JobConfiguration jobConfig) {
+        jobConfigs.put(jobName, new VersionedJobConfiguration(version, jobConfig));
+    }
+    
+    /**
+     * Get sharding item parameters of job configuration.
+     * 
+     * <p>Sharding item parameters of cached job configuration are parsed at most once per data version of configuration node.</p>
+     * 
+     * @param jobName job name
+     * @param jobConfig job configuration
+     * @return read-only sharding item parameters, indexed by sharding items less than sharding total count
+     */
+    public Map<Integer, String> getShardingItemParameters(final String jobName, final JobConfiguration jobConfig) {
+        VersionedJobConfiguration cached = jobConfigs.get(jobName);
+        return null != cached && jobConfig == cached.getJobConfig() ? cached.getShardingItemParameters() : Collections.unmodifiableMap(parseShardingItemParameters(jobConfig));
+    }
+    
+    private static Map<Integer, String> parseShardingItemParameters(final JobConfiguration jobConfig) {
+        int shardingTotalCount = jobConfig.getShardingTotalCount();
+        ShardingItemMap<String> result = new ShardingItemMap<>(shardingTotalCount);
+        for (Map.Entry<Integer, String> entry : new ShardingItemParameters(jobConfig.getShardingItemParameters()).getMap().entrySet()) {
+            if (entry.getKey() >= 0 && entry.getKey() < shardingTotalCount) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Invalidate job configuration.
+     * 
+     * @param jobName job name
+     */
+    public void invalidate(final String jobName) {
+        jobConfigs.remove(jobName);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class VersionedJobConfiguration {
+        
+        private final long version;
+        
+        private final JobConfiguration jobConfig;
+        
+        private volatile Map<Integer, String> shardingItemParameters;
+        
+        Map<Integer, String> getShardingItemParameters() {
+            if (null == shardingItemParameters) {
+                shardingItemParameters = Collections.unmodifiableMap(parseShardingItemParameters(jobConfig));
+            }
+            return shardingItemParameters;
+        }
+    }
+}
@@ -52,6 +52,9 @@ public final class RescheduleListenerManager extends AbstractListenerManager {
         
         @Override
         public void onChange(final DataChangedEvent event) {
+            if (configNode.isConfigPath(event.getKey())) {
+                JobConfigurationCache.getInstance().invalidate(jobName);
+            }
             if (configNode.isConfigPath(event.getKey()) && Type.UPDATED == event.getType() && !JobRegistry.getInstance().isShutdown(jobName)) {
                 JobConfiguration jobConfiguration = YamlEngine.unmarshal(event.getValue(), JobConfigurationPOJO.class).toJobConfiguration();
                 if (StringUtils.isEmpty(jobConfiguration.getCron())) {
@@ -20,14 +20,17 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.failover;
 import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.api.props.KernelJobProperties;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobScheduleController;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingNode;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -50,11 +53,14 @@ public final class FailoverService {
     
     private final ConfigurationService configService;
     
+    private final JobNodePath jobNodePath;
+    
     public FailoverService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         configService = new ConfigurationService(regCenter, jobName);
+        jobNodePath = new JobNodePath(jobName);
     }
     
     /**
@@ -218,16 +224,64 @@ public final class FailoverService {
             if (JobRegistry.getInstance().isShutdown(jobName) || !needFailover()) {
                 return;
             }
-            int crashedItem = Integer.parseInt(jobNodeStorage.getJobNodeChildrenKeys(FailoverNode.ITEMS_ROOT).get(0));
-            log.debug("Failover job '{}' begin, crashed item '{}'", jobName, crashedItem);
-            jobNodeStorage.fillEphemeralJobNode(FailoverNode.getExecutionFailoverNode(crashedItem), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
-            jobNodeStorage.fillJobNode(FailoverNode.getExecutingFailoverNode(crashedItem), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
-            jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getItemsNode(crashedItem));
+            List<String> crashedItems = jobNodeStorage.getJobNodeChildrenKeys(FailoverNode.ITEMS_ROOT);
+            int claimBatchSize = getClaimBatchSize();
+            if (claimBatchSize <= 1 || !claimInBatch(crashedItems.subList(0, Math.min(claimBatchSize, crashedItems.size())))) {
+                claim(Integer.parseInt(crashedItems.get(0)));
+            }
             // TODO Instead of using triggerJob, use executor for unified scheduling
             JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(jobName);
             if (null != jobScheduleController) {
                 jobScheduleController.triggerJob();
             }
         }
+        
+        private int getClaimBatchSize() {
+            String claimBatchSize = configService.load(true).getProps().getOrDefault(KernelJobProperties.FAILOVER_CLAIM_BATCH_SIZE_KEY, 1).toString();
+            try {
+                return Integer.parseInt(claimBatchSize);
+            } catch (final NumberFormatException ex) {
+                log.warn("Job '{}' property '{}' should be integer, but is '{}', claim crashed items one by one.", jobName, KernelJobProperties.FAILOVER_CLAIM_BATCH_SIZE_KEY, claimBatchSize);
+                return 1;
+            }
+        }
+        
+        private void claim(final int crashedItem) {
+            log.debug("Failover job '{}' begin, crashed item '{}'", jobName, crashedItem);
+            jobNodeStorage.fillEphemeralJobNode(FailoverNode.getExecutionFailoverNode(crashedItem), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
+            jobNodeStorage.fillJobNode(FailoverNode.getExecutingFailoverNode(crashedItem), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
+            jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getItemsNode(crashedItem));
+        }
+        
+        /**
+         * Claim crashed items for local job instance in one transaction.
+         * Crashed items left are claimed by other job instances when they take the failover latch.
+         */
+        private boolean claimInBatch(final List<String> crashedItems) {
+            String jobInstanceId = JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId();
+            List<TransactionOperation> operations = new ArrayList<>(crashedItems.size() * 4);
+            for (String each : crashedItems) {
+                int item = Integer.parseInt(each);
+                String executionFailoverNode = FailoverNode.getExecutionFailoverNode(item);
+                if (isJobNodeCached(executionFailoverNode)) {
+                    operations.add(TransactionOperation.opDelete(jobNodePath.getFullPath(executionFailoverNode)));
+                }
+                operations.add(TransactionOperation.opAddEphemeral(jobNodePath.getFullPath(executionFailoverNode), jobInstanceId));
+                String executingFailoverNode = FailoverNode.getExecutingFailoverNode(item);
+                operations.add(isJobNodeCached(executingFailoverNode)
+                        ? TransactionOperation.opUpdate(jobNodePath.getFullPath(executingFailoverNode), jobInstanceId)
+                        : TransactionOperation.opAdd(jobNodePath.getFullPath(executingFailoverNode), jobInstanceId));
+                operations.add(TransactionOperation.opDelete(jobNodePath.getFullPath(FailoverNode.getItemsNode(item))));
+            }
+            if (!jobNodeStorage.tryExecuteInTransaction(operations)) {
+                return false;
+            }
+            log.debug("Failover job '{}' begin, crashed items '{}'", jobName, crashedItems);
+            return true;
+        }
+        
+        private boolean isJobNodeCached(final String node) {
+            return jobNodeStorage.getJobNodeDataVersion(node) > 0L;
+        }
     }
 }
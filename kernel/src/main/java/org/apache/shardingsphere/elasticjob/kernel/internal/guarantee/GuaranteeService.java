@@ -25,7 +25,9 @@ import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStora
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Guarantee service.
@@ -47,9 +49,11 @@ public final class GuaranteeService {
      * @param shardingItems to be registered sharding items
      */
     public void registerStart(final Collection<Integer> shardingItems) {
+        List<String> nodes = new ArrayList<>(shardingItems.size());
         for (int each : shardingItems) {
-            jobNodeStorage.createJobNodeIfNeeded(GuaranteeNode.getStartedNode(each));
+            nodes.add(GuaranteeNode.getStartedNode(each));
         }
+        jobNodeStorage.createJobNodesIfNeeded(nodes);
     }
     
     /**
@@ -90,9 +94,11 @@ public final class GuaranteeService {
      * @param shardingItems to be registered sharding items
      */
     public void registerComplete(final Collection<Integer> shardingItems) {
+        List<String> nodes = new ArrayList<>(shardingItems.size());
         for (int each : shardingItems) {
-            jobNodeStorage.createJobNodeIfNeeded(GuaranteeNode.getCompletedNode(each));
+            nodes.add(GuaranteeNode.getCompletedNode(each));
         }
+        jobNodeStorage.createJobNodesIfNeeded(nodes);
     }
     
     /**
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.instance;
 
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.kernel.internal.trigger.TriggerNode;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -32,6 +34,12 @@ import java.util.List;
  */
 public final class InstanceService {
     
+    private static final String WEIGHT_SYSTEM_PROPERTY_KEY = "elasticjob.instance.weight";
+    
+    private static final String NAME_SYSTEM_PROPERTY_KEY = "elasticjob.instance.name";
+    
+    private final String jobName;
+    
     private final JobNodeStorage jobNodeStorage;
     
     private final InstanceNode instanceNode;
@@ -41,6 +49,7 @@ public final class InstanceService {
     private final ServerService serverService;
     
     public InstanceService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         instanceNode = new InstanceNode(jobName);
         triggerNode = new TriggerNode(jobName);
@@ -49,9 +58,28 @@ public final class InstanceService {
     
     /**
      * Persist job online status.
+     * 
+     * <p>Weight and instance name are published only if they are configured, so job servers and consoles unaware of weight can still read the instance node.</p>
      */
     public void persistOnline() {
-        jobNodeStorage.fillEphemeralJobNode(instanceNode.getLocalInstancePath(), instanceNode.getLocalInstanceValue());
+        jobNodeStorage.fillEphemeralJobNode(instanceNode.getLocalInstancePath(), getLocalInstanceValue());
+    }
+    
+    private String getLocalInstanceValue() {
+        int weight = Integer.getInteger(WEIGHT_SYSTEM_PROPERTY_KEY, 0);
+        String instanceName = System.getProperty(NAME_SYSTEM_PROPERTY_KEY, "");
+        if (weight <= 0 && instanceName.isEmpty()) {
+            return instanceNode.getLocalInstanceValue();
+        }
+        JobInstance localJobInstance = JobRegistry.getInstance().getJobInstance(jobName);
+        JobInstance result = new JobInstance(localJobInstance.getJobInstanceId(), localJobInstance.getLabels(), localJobInstance.getServerIp());
+        if (weight > 0) {
+            result.setWeight(weight);
+        }
+        if (!instanceName.isEmpty()) {
+            result.setInstanceName(instanceName);
+        }
+        return YamlEngine.marshal(result);
     }
     
     /**
@@ -67,6 +95,10 @@ public final class InstanceService {
      * @return available job instances
      */
     public List<JobInstance> getAvailableJobInstances() {
+        JobMembership jobMembership = JobRegistry.getInstance().getJobMembership(jobName);
+        if (jobMembership.isStarted()) {
+            return new ArrayList<>(jobMembership.getAvailableJobInstances());
+        }
         List<JobInstance> result = new LinkedList<>();
         for (String each : jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)) {
             // TODO It's better to make it atomic
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.instance;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerNode;
+import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerStatus;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Job membership, which keeps decoded job instances and server status of a job in an immutable snapshot.
+ * 
+ * <p>
+ * The snapshot is loaded once when started and then maintained incrementally by job node change events,
+ * so membership can be read without listing children, decoding instances or waiting for server status.
+ * </p>
+ */
+public final class JobMembership implements DataChangedEventListener {
+    
+    private final String instancesPath;
+    
+    private final String serversPath;
+    
+    private final Map<String, JobInstance> jobInstances = new TreeMap<>(Comparator.reverseOrder());
+    
+    private final Map<String, String> serverStatuses = new HashMap<>();
+    
+    private volatile Snapshot snapshot;
+    
+    public JobMembership(final String jobName) {
+        JobNodePath jobNodePath = new JobNodePath(jobName);
+        instancesPath = jobNodePath.getFullPath(InstanceNode.ROOT) + "/";
+        serversPath = jobNodePath.getFullPath(ServerNode.ROOT) + "/";
+    }
+    
+    /**
+     * Start job membership by loading job instances and server status.
+     * 
+     * <p>
+     * Job membership should be registered as job node change listener before started, changes before started are covered by the loading.
+     * </p>
+     * 
+     * @param jobNodeStorage job node storage
+     */
+    public synchronized void start(final JobNodeStorage jobNodeStorage) {
+        jobInstances.clear();
+        serverStatuses.clear();
+        for (String each : jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)) {
+            putJobInstance(each, jobNodeStorage.getJobNodeData(InstanceNode.ROOT + "/" + each));
+        }
+        for (String each : jobNodeStorage.getJobNodeChildrenKeys(ServerNode.ROOT)) {
+            putServerStatus(each, jobNodeStorage.getJobNodeData(ServerNode.ROOT + "/" + each));
+        }
+        publish();
+    }
+    
+    /**
+     * Judge whether job membership is started or not.
+     * 
+     * @return job membership is started or not
+     */
+    public boolean isStarted() {
+        return null != snapshot;
+    }
+    
+    @Override
+    public synchronized void onChange(final DataChangedEvent event) {
+        if (null == snapshot) {
+            return;
+        }
+        String instanceId = getChildName(event.getKey(), instancesPath);
+        if (null != instanceId) {
+            if (Type.DELETED == event.getType()) {
+                jobInstances.remove(instanceId);
+            } else {
+                putJobInstance(instanceId, event.getValue());
+            }
+            publish();
+            return;
+        }
+        String serverIp = getChildName(event.getKey(), serversPath);
+        if (null != serverIp) {
+            if (Type.DELETED == event.getType()) {
+                serverStatuses.remove(serverIp);
+            } else {
+                putServerStatus(serverIp, event.getValue());
+            }
+            publish();
+        }
+    }
+    
+    private String getChildName(final String path, final String parentPath) {
+        return path.length() > parentPath.length() && path.startsWith(parentPath) && path.indexOf('/', parentPath.length()) < 0 ? path.substring(parentPath.length()) : null;
+    }
+    
+    private void putJobInstance(final String instanceId, final String data) {
+        JobInstance jobInstance = null == data || data.isEmpty() ? null : YamlEngine.unmarshal(data, JobInstance.class);
+        if (null == jobInstance) {
+            jobInstances.remove(instanceId);
+        } else {
+            jobInstances.put(instanceId, jobInstance);
+        }
+    }
+    
+    private void putServerStatus(final String serverIp, final String status) {
+        if (null == status) {
+            serverStatuses.remove(serverIp);
+        } else {
+            serverStatuses.put(serverIp, status);
+        }
+    }
+    
+    private void publish() {
+        Set<String> enabledServerIps = new HashSet<>();
+        for (Entry<String, String> entry : serverStatuses.entrySet()) {
+            if (ServerStatus.ENABLED.name().equals(entry.getValue())) {
+                enabledServerIps.add(entry.getKey());
+            }
+        }
+        Set<String> onlineServerIps = new HashSet<>();
+        List<JobInstance> availableJobInstances = new ArrayList<>(jobInstances.size());
+        for (Entry<String, JobInstance> entry : jobInstances.entrySet()) {
+            onlineServerIps.add(entry.getKey().split(JobInstance.DELIMITER)[0]);
+            if (enabledServerIps.contains(entry.getValue().getServerIp())) {
+                availableJobInstances.add(entry.getValue());
+            }
+        }
+        snapshot = new Snapshot(Collections.unmodifiableList(availableJobInstances), enabledServerIps, onlineServerIps);
+    }
+    
+    /**
+     * Get available job instances.
+     * 
+     * @return available job instances
+     */
+    public List<JobInstance> getAvailableJobInstances() {
+        return snapshot.availableJobInstances;
+    }
+    
+    /**
+     * Judge is server enabled or not.
+     * 
+     * @param ip job server IP address
+     * @return is server enabled or not
+     */
+    public boolean isEnableServer(final String ip) {
+        return snapshot.enabledServerIps.contains(ip);
+    }
+    
+    /**
+     * Judge has online job instances on server or not.
+     * 
+     * @param ip job server IP address
+     * @return has online job instances on server or not
+     */
+    public boolean hasOnlineInstances(final String ip) {
+        return snapshot.onlineServerIps.contains(ip);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Snapshot {
+        
+        private final List<JobInstance> availableJobInstances;
+        
+        private final Set<String> enabledServerIps;
+        
+        private final Set<String> onlineServerIps;
+    }
+}
@@ -57,8 +57,12 @@ public final class ListenerManager {
     private final RegistryCenterConnectionStateListener regCenterConnectionStateListener;
     
     public ListenerManager(final CoordinatorRegistryCenter regCenter, final String jobName, final Collection<ElasticJobListener> elasticJobListeners) {
+        this(regCenter, jobName, elasticJobListeners, false);
+    }
+    
+    public ListenerManager(final CoordinatorRegistryCenter regCenter, final String jobName, final Collection<ElasticJobListener> elasticJobListeners, final boolean sharedScheduler) {
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
-        ListenerNotifierManager.getInstance().registerJobNotifyExecutor(jobName);
+        ListenerNotifierManager.getInstance().registerJobNotifyExecutor(jobName, sharedScheduler);
         electionListenerManager = new ElectionListenerManager(regCenter, jobName);
         shardingListenerManager = new ShardingListenerManager(regCenter, jobName);
         failoverListenerManager = new FailoverListenerManager(regCenter, jobName);
@@ -74,6 +78,8 @@ public final class ListenerManager {
      * Start all listeners.
      */
     public void startAllListeners() {
+        jobNodeStorage.addMembershipListener();
+        jobNodeStorage.addRunningItemIndexListener();
         electionListenerManager.start();
         shardingListenerManager.start();
         failoverListenerManager.start();
@@ -82,6 +88,7 @@ public final class ListenerManager {
         triggerListenerManager.start();
         rescheduleListenerManager.start();
         guaranteeListenerManager.start();
+        jobNodeStorage.addChangeSignalListener();
         jobNodeStorage.addConnectionStateListener(regCenterConnectionStateListener);
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.listener;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import org.apache.curator.utils.ThreadUtils;
 
 import java.util.Map;
@@ -30,12 +31,17 @@ import java.util.concurrent.ThreadFactory;
 /**
  * Manage listener's notify executor,
  * each job has its own listener notify executor.
+ * 
+ * <p>Listener notify executors of jobs scheduled by shared scheduler notify sequentially in a thread pool shared by them,
+ * so that idle jobs do not hold any thread.</p>
  */
 public final class ListenerNotifierManager {
     
     private static volatile ListenerNotifierManager instance;
     
-    private final Map<String, ExecutorService> listenerNotifyExecutors = new ConcurrentHashMap<>();
+    private final Map<String, Executor> listenerNotifyExecutors = new ConcurrentHashMap<>();
+    
+    private volatile ExecutorService sharedNotifyExecutor;
     
     private ListenerNotifierManager() {
     }
@@ -60,17 +66,36 @@ public final class ListenerNotifierManager {
      * @param jobName The job's name.
      */
     public void registerJobNotifyExecutor(final String jobName) {
+        registerJobNotifyExecutor(jobName, false);
+    }
+    
+    /**
+     * Register a listener notify executor for the job specified.
+     * @param jobName The job's name.
+     * @param sharedScheduler is the job scheduled by shared scheduler or not.
+     */
+    public void registerJobNotifyExecutor(final String jobName, final boolean sharedScheduler) {
         if (!listenerNotifyExecutors.containsKey(jobName)) {
             synchronized (this) {
                 if (!listenerNotifyExecutors.containsKey(jobName)) {
-                    ThreadFactory threadFactory = ThreadUtils.newGenericThreadFactory("ListenerNotify-" + jobName);
-                    ExecutorService notifyExecutor = Executors.newSingleThreadExecutor(threadFactory);
-                    listenerNotifyExecutors.put(jobName, notifyExecutor);
+                    listenerNotifyExecutors.put(jobName, sharedScheduler ? MoreExecutors.newSequentialExecutor(getSharedNotifyExecutor()) : createNotifyExecutor(jobName));
                 }
             }
         }
     }
     
+    private ExecutorService createNotifyExecutor(final String jobName) {
+        ThreadFactory threadFactory = ThreadUtils.newGenericThreadFactory("ListenerNotify-" + jobName);
+        return Executors.newSingleThreadExecutor(threadFactory);
+    }
+    
+    private ExecutorService getSharedNotifyExecutor() {
+        if (null == sharedNotifyExecutor) {
+            sharedNotifyExecutor = Executors.newCachedThreadPool(ThreadUtils.newGenericThreadFactory("ListenerNotify-shared"));
+        }
+        return sharedNotifyExecutor;
+    }
+    
     /**
      * Get the listener notify executor for the specified job.
      * @param jobName The job's name.
@@ -85,6 +110,6 @@ public final class ListenerNotifierManager {
      * @param jobName The job's name.
      */
     public void removeJobNotifyExecutor(final String jobName) {
-        Optional.ofNullable(listenerNotifyExecutors.remove(jobName)).ifPresent(ExecutorService::shutdown);
+        Optional.ofNullable(listenerNotifyExecutors.remove(jobName)).filter(ExecutorService.class::isInstance).map(ExecutorService.class::cast).ifPresent(ExecutorService::shutdown);
     }
 }
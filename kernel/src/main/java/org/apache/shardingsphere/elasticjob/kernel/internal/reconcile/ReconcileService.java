@@ -19,19 +19,26 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.reconcile;
 
 import com.google.common.util.concurrent.AbstractScheduledService;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.curator.utils.ThreadUtils;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Reconcile service.
+ * 
+ * <p>Reconcile services of jobs scheduled by shared scheduler run in one thread shared by them.</p>
  */
 @Slf4j
 public final class ReconcileService extends AbstractScheduledService {
     
+    private static volatile ScheduledExecutorService sharedExecutor;
+    
     private long lastReconcileTime;
     
     private final ConfigurationService configService;
@@ -42,8 +49,15 @@ public final class ReconcileService extends AbstractScheduledService {
     
     private final CoordinatorRegistryCenter regCenter;
     
+    private final boolean sharedScheduler;
+    
     public ReconcileService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this(regCenter, jobName, false);
+    }
+    
+    public ReconcileService(final CoordinatorRegistryCenter regCenter, final String jobName, final boolean sharedScheduler) {
         this.regCenter = regCenter;
+        this.sharedScheduler = sharedScheduler;
         lastReconcileTime = System.currentTimeMillis();
         configService = new ConfigurationService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
@@ -74,4 +88,20 @@ public final class ReconcileService extends AbstractScheduledService {
     protected Scheduler scheduler() {
         return Scheduler.newFixedDelaySchedule(0, 1, TimeUnit.MINUTES);
     }
+    
+    @Override
+    protected ScheduledExecutorService executor() {
+        return sharedScheduler ? getSharedExecutor() : super.executor();
+    }
+    
+    private static ScheduledExecutorService getSharedExecutor() {
+        if (null == sharedExecutor) {
+            synchronized (ReconcileService.class) {
+                if (null == sharedExecutor) {
+                    sharedExecutor = Executors.newSingleThreadScheduledExecutor(ThreadUtils.newGenericThreadFactory("ReconcileService-shared"));
+                }
+            }
+        }
+        return sharedExecutor;
+    }
 }
@@ -20,7 +20,11 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.JobConfigurationCache;
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.JobMembership;
 import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerNotifierManager;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.RunningItemIndex;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeChangeSignal;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
 import java.util.Map;
@@ -45,6 +49,14 @@ public final class JobRegistry {
     
     private final Map<String, Integer> currentShardingTotalCountMap = new ConcurrentHashMap<>();
     
+    private final Map<String, Boolean> reshardingFlagMap = new ConcurrentHashMap<>();
+    
+    private final Map<String, JobNodeChangeSignal> jobNodeChangeSignalMap = new ConcurrentHashMap<>();
+    
+    private final Map<String, JobMembership> jobMembershipMap = new ConcurrentHashMap<>();
+    
+    private final Map<String, RunningItemIndex> runningItemIndexMap = new ConcurrentHashMap<>();
+    
     /**
      * Get instance of job registry.
      * 
@@ -162,6 +174,36 @@ public final class JobRegistry {
         currentShardingTotalCountMap.put(jobName, currentShardingTotalCount);
     }
     
+    /**
+     * Get resharding flag which maintained by job node change events.
+     * 
+     * @param jobName job name
+     * @return resharding flag, null if not maintained yet
+     */
+    public Boolean getReshardingFlag(final String jobName) {
+        return reshardingFlagMap.get(jobName);
+    }
+    
+    /**
+     * Set resharding flag which maintained by job node change events.
+     * 
+     * @param jobName job name
+     * @param reshardingFlag resharding flag
+     */
+    public void setReshardingFlag(final String jobName, final boolean reshardingFlag) {
+        reshardingFlagMap.put(jobName, reshardingFlag);
+    }
+    
+    /**
+     * Initialize resharding flag if it is not maintained by job node change events yet.
+     * 
+     * @param jobName job name
+     * @param reshardingFlag resharding flag
+     */
+    public void initReshardingFlag(final String jobName, final boolean reshardingFlag) {
+        reshardingFlagMap.putIfAbsent(jobName, reshardingFlag);
+    }
+    
     /**
      * Shutdown job schedule.
      * 
@@ -171,9 +213,44 @@ public final class JobRegistry {
         Optional.ofNullable(schedulerMap.remove(jobName)).ifPresent(JobScheduleController::shutdown);
         Optional.ofNullable(regCenterMap.remove(jobName)).ifPresent(regCenter -> regCenter.evictCacheData("/" + jobName));
         ListenerNotifierManager.getInstance().removeJobNotifyExecutor(jobName);
+        JobConfigurationCache.getInstance().invalidate(jobName);
         jobInstanceMap.remove(jobName);
         jobRunningMap.remove(jobName);
         currentShardingTotalCountMap.remove(jobName);
+        reshardingFlagMap.remove(jobName);
+        Optional.ofNullable(jobNodeChangeSignalMap.remove(jobName)).ifPresent(JobNodeChangeSignal::wakeUp);
+        jobMembershipMap.remove(jobName);
+        runningItemIndexMap.remove(jobName);
+    }
+    
+    /**
+     * Get job node change signal.
+     * 
+     * @param jobName job name
+     * @return job node change signal
+     */
+    public JobNodeChangeSignal getJobNodeChangeSignal(final String jobName) {
+        return jobNodeChangeSignalMap.computeIfAbsent(jobName, key -> new JobNodeChangeSignal());
+    }
+    
+    /**
+     * Get job membership.
+     * 
+     * @param jobName job name
+     * @return job membership
+     */
+    public JobMembership getJobMembership(final String jobName) {
+        return jobMembershipMap.computeIfAbsent(jobName, JobMembership::new);
+    }
+    
+    /**
+     * Get running item index.
+     * 
+     * @param jobName job name
+     * @return running item index
+     */
+    public RunningItemIndex getRunningItemIndex(final String jobName) {
+        return runningItemIndexMap.computeIfAbsent(jobName, RunningItemIndex::new);
     }
     
     /**
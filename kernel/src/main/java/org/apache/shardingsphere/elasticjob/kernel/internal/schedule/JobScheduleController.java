@@ -20,10 +20,12 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.infra.concurrent.BlockUtils;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
 import org.quartz.CronScheduleBuilder;
 import org.quartz.CronTrigger;
 import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.SimpleScheduleBuilder;
@@ -31,6 +33,7 @@ import org.quartz.SimpleTrigger;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
 import org.quartz.TriggerKey;
+import org.quartz.utils.Key;
 
 import java.util.TimeZone;
 
@@ -46,6 +49,16 @@ public final class JobScheduleController {
     
     private final String triggerIdentity;
     
+    private final boolean sharedScheduler;
+    
+    private boolean shutdown;
+    
+    private volatile boolean pausedInSharedScheduler;
+    
+    public JobScheduleController(final Scheduler scheduler, final JobDetail jobDetail, final String triggerIdentity) {
+        this(scheduler, jobDetail, triggerIdentity, false);
+    }
+    
     /**
      * Schedule job.
      * 
@@ -72,7 +85,7 @@ public final class JobScheduleController {
     public synchronized void rescheduleJob(final String cron, final String timeZone) {
         try {
             CronTrigger trigger = (CronTrigger) scheduler.getTrigger(TriggerKey.triggerKey(triggerIdentity));
-            if (!scheduler.isShutdown() && null != trigger && !cron.equals(trigger.getCronExpression())) {
+            if (!isShutdown() && null != trigger && !cron.equals(trigger.getCronExpression())) {
                 scheduler.rescheduleJob(TriggerKey.triggerKey(triggerIdentity), createCronTrigger(cron, timeZone));
             }
         } catch (final SchedulerException ex) {
@@ -86,7 +99,7 @@ public final class JobScheduleController {
     public synchronized void rescheduleJob() {
         try {
             SimpleTrigger trigger = (SimpleTrigger) scheduler.getTrigger(TriggerKey.triggerKey(triggerIdentity));
-            if (!scheduler.isShutdown() && null != trigger) {
+            if (!isShutdown() && null != trigger) {
                 scheduler.rescheduleJob(TriggerKey.triggerKey(triggerIdentity), createOneOffTrigger());
             }
         } catch (final SchedulerException ex) {
@@ -120,7 +133,10 @@ public final class JobScheduleController {
      */
     public synchronized boolean isPaused() {
         try {
-            return !scheduler.isShutdown() && Trigger.TriggerState.PAUSED == scheduler.getTriggerState(new TriggerKey(triggerIdentity));
+            if (sharedScheduler) {
+                return !isShutdown() && pausedInSharedScheduler;
+            }
+            return !isShutdown() && Trigger.TriggerState.PAUSED == scheduler.getTriggerState(new TriggerKey(triggerIdentity));
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
@@ -131,37 +147,71 @@ public final class JobScheduleController {
      */
     public synchronized void pauseJob() {
         try {
-            if (!scheduler.isShutdown()) {
-                scheduler.pauseAll();
+            if (!isShutdown()) {
+                pause();
             }
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
     }
     
+    /**
+     * Judge job is paused in shared scheduler or not.
+     * 
+     * <p>
+     * Pausing job in shared scheduler pauses existing triggers of the job only, so triggers added while paused still fire,
+     * and the fired job should be skipped if paused.
+     * </p>
+     * 
+     * @return job is paused in shared scheduler or not
+     */
+    public boolean isPausedInSharedScheduler() {
+        return pausedInSharedScheduler;
+    }
+    
+    private void pause() throws SchedulerException {
+        if (sharedScheduler) {
+            pausedInSharedScheduler = true;
+            scheduler.pauseJob(jobDetail.getKey());
+        } else {
+            scheduler.pauseAll();
+        }
+    }
+    
     /**
      * Resume job.
      */
     public synchronized void resumeJob() {
         try {
-            if (!scheduler.isShutdown()) {
-                scheduler.resumeAll();
+            if (!isShutdown()) {
+                resume();
             }
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
     }
     
+    private void resume() throws SchedulerException {
+        if (sharedScheduler) {
+            pausedInSharedScheduler = false;
+            scheduler.resumeJob(jobDetail.getKey());
+        } else {
+            scheduler.resumeAll();
+        }
+    }
+    
     /**
      * Trigger job.
      */
     public synchronized void triggerJob() {
         try {
-            if (scheduler.isShutdown()) {
+            if (isShutdown() || pausedInSharedScheduler) {
                 return;
             }
             if (!scheduler.checkExists(jobDetail.getKey())) {
                 scheduler.scheduleJob(jobDetail, createOneOffTrigger());
+            } else if (sharedScheduler) {
+                scheduler.scheduleJob(createOneOffTriggerInSharedScheduler());
             } else {
                 scheduler.triggerJob(jobDetail.getKey());
             }
@@ -177,6 +227,11 @@ public final class JobScheduleController {
         return TriggerBuilder.newTrigger().withIdentity(triggerIdentity).withSchedule(SimpleScheduleBuilder.simpleSchedule()).build();
     }
     
+    private Trigger createOneOffTriggerInSharedScheduler() {
+        String group = SharedScheduler.getOneOffTriggerGroup(jobDetail.getKey().getName());
+        return TriggerBuilder.newTrigger().withIdentity(Key.createUniqueName(group), group).forJob(jobDetail.getKey()).build();
+    }
+    
     /**
      * Shutdown scheduler.
      */
@@ -190,11 +245,39 @@ public final class JobScheduleController {
      */
     public synchronized void shutdown(final boolean isCleanShutdown) {
         try {
-            if (!scheduler.isShutdown()) {
+            if (isShutdown()) {
+                return;
+            }
+            if (sharedScheduler) {
+                shutdownInSharedScheduler(isCleanShutdown);
+            } else {
                 scheduler.shutdown(isCleanShutdown);
             }
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
     }
+    
+    private void shutdownInSharedScheduler(final boolean isCleanShutdown) throws SchedulerException {
+        shutdown = true;
+        scheduler.deleteJob(jobDetail.getKey());
+        scheduler.getListenerManager().removeTriggerListener(SharedScheduler.getTriggerListenerName(jobDetail.getKey().getName()));
+        while (isCleanShutdown && isExecuting()) {
+            BlockUtils.waitingShortTime();
+        }
+        JobShutdownHookPlugin.removeInstance(jobDetail.getKey().getName());
+    }
+    
+    private boolean isExecuting() throws SchedulerException {
+        for (JobExecutionContext each : scheduler.getCurrentlyExecutingJobs()) {
+            if (jobDetail.getKey().equals(each.getJobDetail().getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isShutdown() throws SchedulerException {
+        return shutdown || scheduler.isShutdown();
+    }
 }
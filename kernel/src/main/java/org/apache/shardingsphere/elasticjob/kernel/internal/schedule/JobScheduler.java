@@ -29,7 +29,9 @@ import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.listener.ElasticJobListener;
 import org.apache.shardingsphere.elasticjob.infra.listener.ElasticJobListenerFactory;
 import org.apache.shardingsphere.elasticjob.infra.spi.ElasticJobServiceLoader;
+import org.apache.shardingsphere.elasticjob.infra.validator.JobPropertiesValidateRule;
 import org.apache.shardingsphere.elasticjob.kernel.api.listener.AbstractDistributeOnceElasticJobListener;
+import org.apache.shardingsphere.elasticjob.kernel.api.props.KernelJobProperties;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.guarantee.GuaranteeService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.setup.JobClassNameProviderFactory;
@@ -40,7 +42,11 @@ import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.quartz.TriggerKey;
 import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.impl.matchers.KeyMatcher;
+import org.quartz.impl.matchers.OrMatcher;
 import org.quartz.simpl.SimpleThreadPool;
 
 import java.util.Collection;
@@ -82,7 +88,7 @@ public final class JobScheduler {
         String jobClassName = JobClassNameProviderFactory.getProvider().getJobClassName(elasticJob);
         this.jobConfig = setUpJobConfiguration(regCenter, jobClassName, jobConfig);
         Collection<ElasticJobListener> jobListeners = getElasticJobListeners(this.jobConfig);
-        setUpFacade = new SetUpFacade(regCenter, this.jobConfig.getJobName(), jobListeners);
+        setUpFacade = new SetUpFacade(regCenter, this.jobConfig.getJobName(), jobListeners, isSharedScheduler());
         schedulerFacade = new SchedulerFacade(regCenter, this.jobConfig.getJobName());
         jobFacade = new LiteJobFacade(regCenter, this.jobConfig.getJobName(), jobListeners, findTracingConfiguration().orElse(null));
         validateJobProperties();
@@ -96,7 +102,7 @@ public final class JobScheduler {
         this.regCenter = regCenter;
         this.jobConfig = setUpJobConfiguration(regCenter, elasticJobType, jobConfig);
         Collection<ElasticJobListener> jobListeners = getElasticJobListeners(this.jobConfig);
-        setUpFacade = new SetUpFacade(regCenter, this.jobConfig.getJobName(), jobListeners);
+        setUpFacade = new SetUpFacade(regCenter, this.jobConfig.getJobName(), jobListeners, isSharedScheduler());
         schedulerFacade = new SchedulerFacade(regCenter, this.jobConfig.getJobName());
         jobFacade = new LiteJobFacade(regCenter, this.jobConfig.getJobName(), jobListeners, findTracingConfiguration().orElse(null));
         validateJobProperties();
@@ -122,6 +128,7 @@ public final class JobScheduler {
     
     private void validateJobProperties() {
         validateJobErrorHandlerProperties();
+        JobPropertiesValidateRule.validateIsPositiveInteger(jobConfig.getProps(), KernelJobProperties.FAILOVER_CLAIM_BATCH_SIZE_KEY);
     }
     
     private void validateJobErrorHandlerProperties() {
@@ -141,12 +148,28 @@ public final class JobScheduler {
     }
     
     private JobScheduleController createJobScheduleController() {
-        JobScheduleController result = new JobScheduleController(createScheduler(), createJobDetail(), getJobConfig().getJobName());
+        boolean sharedScheduler = isSharedScheduler();
+        JobScheduleController result = new JobScheduleController(sharedScheduler ? getSharedScheduler() : createScheduler(), createJobDetail(), getJobConfig().getJobName(), sharedScheduler);
         JobRegistry.getInstance().registerJob(getJobConfig().getJobName(), result);
         registerStartUpInfo();
         return result;
     }
     
+    private boolean isSharedScheduler() {
+        return Boolean.parseBoolean(jobConfig.getProps().getOrDefault(KernelJobProperties.SHARED_SCHEDULER_KEY, false).toString());
+    }
+    
+    private Scheduler getSharedScheduler() {
+        Scheduler result = SharedScheduler.getScheduler();
+        try {
+            result.getListenerManager().addTriggerListener(schedulerFacade.newSharedJobTriggerListener(),
+                    OrMatcher.or(KeyMatcher.keyEquals(TriggerKey.triggerKey(jobConfig.getJobName())), GroupMatcher.triggerGroupEquals(SharedScheduler.getOneOffTriggerGroup(jobConfig.getJobName()))));
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+        return result;
+    }
+    
     private Scheduler createScheduler() {
         Scheduler result;
         try {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ExecutionService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingService;
@@ -33,9 +34,11 @@ public final class JobTriggerListener extends TriggerListenerSupport {
     
     private final ShardingService shardingService;
     
-    @Override
-    public String getName() {
-        return "JobTriggerListener";
+    @Getter
+    private final String name;
+    
+    public JobTriggerListener(final ExecutionService executionService, final ShardingService shardingService) {
+        this(executionService, shardingService, "JobTriggerListener");
     }
     
     @Override
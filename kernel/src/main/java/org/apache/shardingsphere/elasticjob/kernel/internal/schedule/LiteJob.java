@@ -19,12 +19,14 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
 
 import lombok.Setter;
 import org.apache.shardingsphere.elasticjob.executor.ElasticJobExecutor;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 
 /**
  * Lite job class.
  */
+@DisallowConcurrentExecution
 @Setter
 public final class LiteJob implements Job {
     
@@ -32,6 +34,10 @@ public final class LiteJob implements Job {
     
     @Override
     public void execute(final JobExecutionContext context) {
+        JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(context.getJobDetail().getKey().getName());
+        if (null != jobScheduleController && jobScheduleController.isPausedInSharedScheduler()) {
+            return;
+        }
         jobExecutor.execute();
     }
     
@@ -22,12 +22,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.failover.FailoverService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.CheckpointService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ExecutionContextService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ExecutionService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ItemDurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingService;
 import org.apache.shardingsphere.elasticjob.executor.JobFacade;
 import org.apache.shardingsphere.elasticjob.infra.context.TaskContext;
 import org.apache.shardingsphere.elasticjob.infra.exception.JobExecutionEnvironmentException;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.DurationAwareJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobShardingStrategyFactory;
 import org.apache.shardingsphere.elasticjob.infra.listener.ElasticJobListener;
 import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
@@ -40,6 +44,8 @@ import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent.St
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -58,16 +64,26 @@ public final class LiteJobFacade implements JobFacade {
     
     private final FailoverService failoverService;
     
+    private final ItemDurationService itemDurationService;
+    
+    private final CheckpointService checkpointService;
+    
     private final Collection<ElasticJobListener> elasticJobListeners;
     
     private final JobTracingEventBus jobTracingEventBus;
     
+    private final Map<String, Boolean> durationAwareStrategyTypes = new ConcurrentHashMap<>();
+    
+    private volatile TaskContext latestTaskContext;
+    
     public LiteJobFacade(final CoordinatorRegistryCenter regCenter, final String jobName, final Collection<ElasticJobListener> elasticJobListeners, final TracingConfiguration<?> tracingConfig) {
         configService = new ConfigurationService(regCenter, jobName);
         shardingService = new ShardingService(regCenter, jobName);
         executionContextService = new ExecutionContextService(regCenter, jobName);
         executionService = new ExecutionService(regCenter, jobName);
         failoverService = new FailoverService(regCenter, jobName);
+        itemDurationService = new ItemDurationService(regCenter, jobName);
+        checkpointService = new CheckpointService(regCenter, jobName);
         this.elasticJobListeners = elasticJobListeners.stream().sorted(Comparator.comparingInt(ElasticJobListener::order)).collect(Collectors.toList());
         this.jobTracingEventBus = null == tracingConfig ? new JobTracingEventBus() : new JobTracingEventBus(tracingConfig);
     }
@@ -96,10 +112,30 @@ public final class LiteJobFacade implements JobFacade {
     
     @Override
     public void registerJobCompleted(final ShardingContexts shardingContexts) {
+        flushCheckpoints(shardingContexts.getJobName());
         executionService.registerJobCompleted(shardingContexts);
-        if (configService.load(true).isFailover()) {
+        JobConfiguration jobConfig = configService.load(true);
+        if (jobConfig.isFailover()) {
             failoverService.updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
         }
+        if (isDurationAware(jobConfig)) {
+            itemDurationService.persist();
+        }
+    }
+    
+    private void flushCheckpoints(final String jobName) {
+        try {
+            checkpointService.flush();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Job '{}' flush checkpoints failure, pending checkpoints are kept for the next flush.", jobName, ex);
+        }
+    }
+    
+    private boolean isDurationAware(final JobConfiguration jobConfig) {
+        String strategyType = jobConfig.getJobShardingStrategyType();
+        return durationAwareStrategyTypes.computeIfAbsent(Strings.nullToEmpty(strategyType), key -> JobShardingStrategyFactory.getStrategy(strategyType) instanceof DurationAwareJobShardingStrategy);
     }
     
     @Override
@@ -140,6 +176,11 @@ public final class LiteJobFacade implements JobFacade {
         return shardingService.isNeedSharding();
     }
     
+    @Override
+    public boolean isReshardingPending() {
+        return shardingService.isReshardingPending();
+    }
+    
     @Override
     public void beforeJobExecuted(final ShardingContexts shardingContexts) {
         for (ElasticJobListener each : elasticJobListeners) {
@@ -154,18 +195,47 @@ public final class LiteJobFacade implements JobFacade {
         }
     }
     
+    @Override
+    public String loadCheckpoint(final int shardingItem) {
+        return checkpointService.load(shardingItem);
+    }
+    
+    @Override
+    public void commitCheckpoint(final int shardingItem, final String checkpoint) {
+        checkpointService.commit(shardingItem, checkpoint);
+    }
+    
+    @Override
+    public boolean isJobExecutionEventRequired() {
+        return jobTracingEventBus.isEnabled() || isDurationAware(configService.load(true));
+    }
+    
     @Override
     public void postJobExecutionEvent(final JobExecutionEvent jobExecutionEvent) {
+        if (null != jobExecutionEvent && jobExecutionEvent.isSuccess() && null != jobExecutionEvent.getCompleteTime()) {
+            itemDurationService.record(jobExecutionEvent.getShardingItem(), jobExecutionEvent.getCompleteTime().getTime() - jobExecutionEvent.getStartTime().getTime());
+        }
         jobTracingEventBus.post(jobExecutionEvent);
     }
     
     @Override
     public void postJobStatusTraceEvent(final String taskId, final State state, final String message) {
-        TaskContext taskContext = TaskContext.from(taskId);
-        jobTracingEventBus.post(new JobStatusTraceEvent(taskContext.getMetaInfo().getJobName(), taskContext.getId(),
-                taskContext.getSlaveId(), taskContext.getType().name(), taskContext.getMetaInfo().getShardingItems().toString(), state, message));
+        if (jobTracingEventBus.isEnabled()) {
+            TaskContext taskContext = getTaskContext(taskId);
+            jobTracingEventBus.post(new JobStatusTraceEvent(taskContext.getMetaInfo().getJobName(), taskContext.getId(),
+                    taskContext.getSlaveId(), taskContext.getType().name(), taskContext.getMetaInfo().getShardingItemsText(), state, message));
+        }
         if (!Strings.isNullOrEmpty(message)) {
             log.trace(message);
         }
     }
+    
+    private TaskContext getTaskContext(final String taskId) {
+        TaskContext result = latestTaskContext;
+        if (null == result || !result.getId().equals(taskId)) {
+            result = TaskContext.from(taskId);
+            latestTaskContext = result;
+        }
+        return result;
+    }
 }
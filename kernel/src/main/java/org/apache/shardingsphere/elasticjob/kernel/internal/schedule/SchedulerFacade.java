@@ -51,6 +51,15 @@ public final class SchedulerFacade {
         return new JobTriggerListener(executionService, shardingService);
     }
     
+    /**
+     * Create job trigger listener for scheduler shared by jobs.
+     *
+     * @return job trigger listener
+     */
+    public JobTriggerListener newSharedJobTriggerListener() {
+        return new JobTriggerListener(executionService, shardingService, SharedScheduler.getTriggerListenerName(jobName));
+    }
+    
     /**
      * Shutdown instance.
      */
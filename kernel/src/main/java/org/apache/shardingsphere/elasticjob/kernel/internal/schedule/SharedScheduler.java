@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.simpl.SimpleThreadPool;
+
+import java.util.Properties;
+
+/**
+ * Scheduler shared by jobs in the same JVM.
+ * 
+ * <p>
+ * One scheduler thread fires triggers of all jobs into a bounded thread pool,
+ * so count of scheduler threads keeps constant whatever the count of jobs.
+ * Sharding items are still executed by the job executor service of each job, which is not shared.
+ * Thread count is specified by system property {@value #THREAD_COUNT_KEY}, default is twice of available processors.
+ * </p>
+ * 
+ * <p>
+ * Fires delayed by a saturated thread pool are still executed late unless the delay exceeds misfire threshold,
+ * which is specified by system property {@value #MISFIRE_THRESHOLD_MILLISECONDS_KEY}, default is 60000 milliseconds.
+ * Fires delayed longer are handed to misfire handling of job.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SharedScheduler {
+    
+    public static final String THREAD_COUNT_KEY = "elasticjob.scheduler.shared.thread-count";
+    
+    public static final String MISFIRE_THRESHOLD_MILLISECONDS_KEY = "elasticjob.scheduler.shared.misfire-threshold-milliseconds";
+    
+    private static final long DEFAULT_MISFIRE_THRESHOLD_MILLISECONDS = 60000L;
+    
+    private static final String INSTANCE_NAME = "ElasticJobSharedScheduler";
+    
+    private static final String TRIGGER_LISTENER_NAME_PREFIX = "JobTriggerListener-";
+    
+    private static final String ONE_OFF_TRIGGER_GROUP_PREFIX = "OneOffTrigger-";
+    
+    private static volatile Scheduler scheduler;
+    
+    /**
+     * Get shared scheduler.
+     * 
+     * @return shared scheduler
+     */
+    public static Scheduler getScheduler() {
+        if (null == scheduler || isShutdown()) {
+            synchronized (SharedScheduler.class) {
+                if (null == scheduler || isShutdown()) {
+                    scheduler = createScheduler();
+                }
+            }
+        }
+        return scheduler;
+    }
+    
+    private static boolean isShutdown() {
+        try {
+            return scheduler.isShutdown();
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    private static Scheduler createScheduler() {
+        Scheduler result;
+        try {
+            StdSchedulerFactory factory = new StdSchedulerFactory();
+            factory.initialize(getQuartzProps());
+            result = factory.getScheduler();
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+        registerShutdownHook(result);
+        return result;
+    }
+    
+    private static Properties getQuartzProps() {
+        Properties result = new Properties();
+        result.put("org.quartz.threadPool.class", SimpleThreadPool.class.getName());
+        result.put("org.quartz.threadPool.threadCount", String.valueOf(Integer.getInteger(THREAD_COUNT_KEY, Runtime.getRuntime().availableProcessors() * 2)));
+        result.put("org.quartz.scheduler.instanceName", INSTANCE_NAME);
+        result.put("org.quartz.jobStore.misfireThreshold", String.valueOf(Long.getLong(MISFIRE_THRESHOLD_MILLISECONDS_KEY, DEFAULT_MISFIRE_THRESHOLD_MILLISECONDS)));
+        return result;
+    }
+    
+    private static void registerShutdownHook(final Scheduler scheduler) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            log.info("Shutting down Quartz... {}", INSTANCE_NAME);
+            try {
+                for (JobKey each : scheduler.getJobKeys(GroupMatcher.anyJobGroup())) {
+                    JobScheduleController scheduleController = JobRegistry.getInstance().getJobScheduleController(each.getName());
+                    if (null != scheduleController) {
+                        scheduleController.shutdown(true);
+                    }
+                }
+                scheduler.shutdown(true);
+            } catch (final SchedulerException ex) {
+                log.warn("Shutdown Quartz failure.", ex);
+            }
+        }, "Quartz Shutdown-Hook " + INSTANCE_NAME));
+    }
+    
+    /**
+     * Get trigger listener name of job in shared scheduler.
+     * 
+     * @param jobName job name
+     * @return trigger listener name
+     */
+    public static String getTriggerListenerName(final String jobName) {
+        return TRIGGER_LISTENER_NAME_PREFIX + jobName;
+    }
+    
+    /**
+     * Get group of one-off triggers of job in shared scheduler.
+     * 
+     * @param jobName job name
+     * @return group of one-off triggers
+     */
+    public static String getOneOffTriggerGroup(final String jobName) {
+        return ONE_OFF_TRIGGER_GROUP_PREFIX + jobName;
+    }
+}
@@ -19,12 +19,13 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.server;
 
 import com.google.common.base.Strings;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.shardingsphere.elasticjob.infra.concurrent.BlockUtils;
 import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceNode;
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.JobMembership;
 import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -84,6 +85,10 @@ public final class ServerService {
     }
     
     private boolean hasOnlineInstances(final String ip) {
+        JobMembership jobMembership = JobRegistry.getInstance().getJobMembership(jobName);
+        if (jobMembership.isStarted()) {
+            return jobMembership.hasOnlineInstances(ip);
+        }
         for (String each : jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)) {
             if (each.startsWith(ip)) {
                 return true;
@@ -99,9 +104,13 @@ public final class ServerService {
      * @return is server enabled or not
      */
     public boolean isEnableServer(final String ip) {
+        JobMembership jobMembership = JobRegistry.getInstance().getJobMembership(jobName);
+        if (jobMembership.isStarted()) {
+            return jobMembership.isEnableServer(ip);
+        }
         String serverStatus = jobNodeStorage.getJobNodeData(serverNode.getServerNode(ip));
-        for (int i = 0; Strings.isNullOrEmpty(serverStatus) && i < 10; i++) {
-            BlockUtils.waitingShortTime();
+        if (Strings.isNullOrEmpty(serverStatus)) {
+            jobNodeStorage.waitUntil(() -> !Strings.isNullOrEmpty(jobNodeStorage.getJobNodeData(serverNode.getServerNode(ip))), 1000L);
             serverStatus = jobNodeStorage.getJobNodeData(serverNode.getServerNode(ip));
         }
         return ServerStatus.ENABLED.name().equals(serverStatus);
@@ -126,7 +135,7 @@ public final class ServerService {
         if (serverIps == null || serverIps.isEmpty()) {
             return affectNums.get();
         }
-        
+        List<String> offlineServerNodes = new ArrayList<>();
         serverIps.forEach(serverIp -> {
             if (instanceIps.contains(serverIp)) {
                 return;
@@ -135,9 +144,10 @@ public final class ServerService {
             if (StringUtils.isNotBlank(status)) {
                 return;
             }
-            jobNodeStorage.removeJobNodeIfExisted(serverNode.getServerNode(serverIp));
+            offlineServerNodes.add(serverNode.getServerNode(serverIp));
             affectNums.getAndIncrement();
         });
+        jobNodeStorage.removeJobNodesAsync(offlineServerNodes).join();
         return affectNums.get();
     }
 }
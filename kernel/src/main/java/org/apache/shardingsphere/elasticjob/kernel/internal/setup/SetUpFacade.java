@@ -53,11 +53,15 @@ public final class SetUpFacade {
     private final CoordinatorRegistryCenter regCenter;
     
     public SetUpFacade(final CoordinatorRegistryCenter regCenter, final String jobName, final Collection<ElasticJobListener> elasticJobListeners) {
+        this(regCenter, jobName, elasticJobListeners, false);
+    }
+    
+    public SetUpFacade(final CoordinatorRegistryCenter regCenter, final String jobName, final Collection<ElasticJobListener> elasticJobListeners, final boolean sharedScheduler) {
         leaderService = new LeaderService(regCenter, jobName);
         serverService = new ServerService(regCenter, jobName);
         instanceService = new InstanceService(regCenter, jobName);
-        reconcileService = new ReconcileService(regCenter, jobName);
-        listenerManager = new ListenerManager(regCenter, jobName, elasticJobListeners);
+        reconcileService = new ReconcileService(regCenter, jobName, sharedScheduler);
+        listenerManager = new ListenerManager(regCenter, jobName, elasticJobListeners, sharedScheduler);
         this.jobName = jobName;
         this.regCenter = regCenter;
     }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.infra.env.TimeService;
+import org.apache.shardingsphere.elasticjob.kernel.api.props.KernelJobProperties;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checkpoint service, which keeps the latest checkpoint of each sharding item for resuming after resharding or failover.
+ * 
+ * <p>
+ * Checkpoints are stored under nodes of sharding items, which are kept while sharding items are reassigned.
+ * Committed checkpoints are pending in memory and flushed in batch at most once per flush interval, and when job completed.
+ * </p>
+ */
+public final class CheckpointService {
+    
+    private final ConfigurationService configService;
+    
+    private final JobNodeStorage jobNodeStorage;
+    
+    private final TimeService timeService;
+    
+    private final Map<Integer, String> pendingCheckpoints = new ConcurrentHashMap<>();
+    
+    private volatile long lastFlushTime;
+    
+    public CheckpointService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        configService = new ConfigurationService(regCenter, jobName);
+        jobNodeStorage = new JobNodeStorage(regCenter, jobName);
+        timeService = new TimeService();
+    }
+    
+    /**
+     * Load checkpoint of sharding item.
+     * 
+     * @param item sharding item
+     * @return checkpoint, null if never committed
+     */
+    public String load(final int item) {
+        String result = pendingCheckpoints.get(item);
+        return null == result ? jobNodeStorage.getJobNodeDataDirectly(ShardingNode.getCheckpointNode(item)) : result;
+    }
+    
+    /**
+     * Commit checkpoint of sharding item, which is flushed if flush interval elapsed since last flush.
+     * 
+     * @param item sharding item
+     * @param checkpoint checkpoint
+     */
+    public void commit(final int item, final String checkpoint) {
+        if (item < 0 || null == checkpoint) {
+            return;
+        }
+        pendingCheckpoints.put(item, checkpoint);
+        if (timeService.getCurrentMillis() - lastFlushTime >= getFlushIntervalMilliseconds()) {
+            flush();
+        }
+    }
+    
+    private long getFlushIntervalMilliseconds() {
+        return Long.parseLong(configService.load(true).getProps().getOrDefault(KernelJobProperties.CHECKPOINT_FLUSH_INTERVAL_MILLISECONDS_KEY, 1000).toString());
+    }
+    
+    /**
+     * Flush pending checkpoints to registry center.
+     */
+    public synchronized void flush() {
+        lastFlushTime = timeService.getCurrentMillis();
+        if (pendingCheckpoints.isEmpty()) {
+            return;
+        }
+        Map<Integer, String> checkpoints = new HashMap<>(pendingCheckpoints);
+        Map<String, String> nodeValues = new LinkedHashMap<>(checkpoints.size(), 1F);
+        for (Entry<Integer, String> entry : checkpoints.entrySet()) {
+            nodeValues.put(ShardingNode.getCheckpointNode(entry.getKey()), entry.getValue());
+        }
+        jobNodeStorage.fillJobNodes(nodeValues);
+        for (Entry<Integer, String> entry : checkpoints.entrySet()) {
+            pendingCheckpoints.remove(entry.getKey(), entry.getValue());
+        }
+    }
+}
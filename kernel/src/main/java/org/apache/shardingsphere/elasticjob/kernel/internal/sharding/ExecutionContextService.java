@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
-import org.apache.shardingsphere.elasticjob.infra.context.ShardingItemParameters;
+import org.apache.shardingsphere.elasticjob.infra.context.ExecutionType;
+import org.apache.shardingsphere.elasticjob.infra.context.ShardingItemMap;
+import org.apache.shardingsphere.elasticjob.infra.context.TaskContext.MetaInfo;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
@@ -28,10 +32,8 @@ import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Execution context service.
@@ -44,6 +46,8 @@ public final class ExecutionContextService {
     
     private final ConfigurationService configService;
     
+    private volatile TaskIdentity latestTaskIdentity;
+    
     public ExecutionContextService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
@@ -57,35 +61,35 @@ public final class ExecutionContextService {
      * @return job sharding context
      */
     public ShardingContexts getJobShardingContext(final List<Integer> shardingItems) {
-        JobConfiguration jobConfig = configService.load(false);
+        JobConfiguration jobConfig = configService.load(true);
         removeRunningIfMonitorExecution(jobConfig.isMonitorExecution(), shardingItems);
         if (shardingItems.isEmpty()) {
             return new ShardingContexts(buildTaskId(jobConfig, shardingItems), jobConfig.getJobName(), jobConfig.getShardingTotalCount(),
                     jobConfig.getJobParameter(), Collections.emptyMap());
         }
-        Map<Integer, String> shardingItemParameterMap = new ShardingItemParameters(jobConfig.getShardingItemParameters()).getMap();
+        Map<Integer, String> shardingItemParameterMap = configService.loadShardingItemParameters(jobConfig);
         return new ShardingContexts(buildTaskId(jobConfig, shardingItems), jobConfig.getJobName(), jobConfig.getShardingTotalCount(),
                 jobConfig.getJobParameter(), getAssignedShardingItemParameterMap(shardingItems, shardingItemParameterMap));
     }
     
     private String buildTaskId(final JobConfiguration jobConfig, final List<Integer> shardingItems) {
         JobInstance jobInstance = JobRegistry.getInstance().getJobInstance(jobName);
-        String shardingItemsString = shardingItems.stream().map(Object::toString).collect(Collectors.joining(","));
         String jobInstanceId = null == jobInstance || null == jobInstance.getJobInstanceId() ? "127.0.0.1@-@1" : jobInstance.getJobInstanceId();
-        return String.join("@-@", jobConfig.getJobName(), shardingItemsString, "READY", jobInstanceId);
+        MetaInfo metaInfo = new MetaInfo(jobConfig.getJobName(), shardingItems);
+        TaskIdentity result = latestTaskIdentity;
+        if (null == result || !result.getMetaInfo().equals(metaInfo) || !result.getJobInstanceId().equals(jobInstanceId)) {
+            result = new TaskIdentity(new MetaInfo(metaInfo.getJobName(), new ArrayList<>(shardingItems)), jobInstanceId,
+                    String.join("@-@", metaInfo.toString(), ExecutionType.READY.name(), jobInstanceId));
+            latestTaskIdentity = result;
+        }
+        return result.getTaskId();
     }
     
     private void removeRunningIfMonitorExecution(final boolean monitorExecution, final List<Integer> shardingItems) {
         if (!monitorExecution) {
             return;
         }
-        List<Integer> runningShardingItems = new ArrayList<>(shardingItems.size());
-        for (int each : shardingItems) {
-            if (isRunning(each)) {
-                runningShardingItems.add(each);
-            }
-        }
-        shardingItems.removeAll(runningShardingItems);
+        shardingItems.removeIf(this::isRunning);
     }
     
     private boolean isRunning(final int shardingItem) {
@@ -93,10 +97,25 @@ public final class ExecutionContextService {
     }
     
     private Map<Integer, String> getAssignedShardingItemParameterMap(final List<Integer> shardingItems, final Map<Integer, String> shardingItemParameterMap) {
-        Map<Integer, String> result = new HashMap<>(shardingItems.size(), 1);
+        int maxShardingItem = -1;
+        for (int each : shardingItems) {
+            maxShardingItem = Math.max(maxShardingItem, each);
+        }
+        ShardingItemMap<String> result = new ShardingItemMap<>(maxShardingItem + 1);
         for (int each : shardingItems) {
             result.put(each, shardingItemParameterMap.get(each));
         }
         return result;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TaskIdentity {
+        
+        private final MetaInfo metaInfo;
+        
+        private final String jobInstanceId;
+        
+        private final String taskId;
+    }
 }
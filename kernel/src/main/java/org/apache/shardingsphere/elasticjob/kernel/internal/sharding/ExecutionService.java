@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Execution service.
@@ -61,12 +62,11 @@ public final class ExecutionService {
             return;
         }
         String jobInstanceId = JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId();
-        for (int each : shardingContexts.getShardingItemParameters().keySet()) {
-            if (jobConfiguration.isFailover()) {
-                jobNodeStorage.fillJobNode(ShardingNode.getRunningNode(each), jobInstanceId);
-            } else {
-                jobNodeStorage.fillEphemeralJobNode(ShardingNode.getRunningNode(each), jobInstanceId);
-            }
+        List<String> runningNodes = getRunningNodes(shardingContexts.getShardingItemParameters().keySet());
+        if (jobConfiguration.isFailover()) {
+            jobNodeStorage.fillJobNodes(runningNodes, jobInstanceId);
+        } else {
+            jobNodeStorage.fillEphemeralJobNodes(runningNodes, jobInstanceId);
         }
     }
     
@@ -80,9 +80,15 @@ public final class ExecutionService {
         if (!configService.load(true).isMonitorExecution()) {
             return;
         }
-        for (int each : shardingContexts.getShardingItemParameters().keySet()) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getRunningNode(each));
+        jobNodeStorage.removeJobNodesIfExisted(getRunningNodes(shardingContexts.getShardingItemParameters().keySet()));
+    }
+    
+    private List<String> getRunningNodes(final Collection<Integer> items) {
+        List<String> result = new ArrayList<>(items.size());
+        for (int each : items) {
+            result.add(ShardingNode.getRunningNode(each));
         }
+        return result;
     }
     
     /**
@@ -114,6 +120,10 @@ public final class ExecutionService {
         if (!jobConfig.isMonitorExecution()) {
             return false;
         }
+        RunningItemIndex runningItemIndex = JobRegistry.getInstance().getRunningItemIndex(jobName);
+        if (runningItemIndex.isStarted()) {
+            return items.stream().anyMatch(runningItemIndex::isRunning);
+        }
         for (int each : items) {
             if (jobNodeStorage.isJobNodeExisted(ShardingNode.getRunningNode(each))) {
                 return true;
@@ -128,6 +138,11 @@ public final class ExecutionService {
      * @return has running items or not
      */
     public boolean hasRunningItems() {
+        RunningItemIndex runningItemIndex = JobRegistry.getInstance().getRunningItemIndex(jobName);
+        if (runningItemIndex.isStarted()) {
+            JobConfiguration jobConfig = configService.load(true);
+            return jobConfig.isMonitorExecution() && runningItemIndex.hasRunningItems(jobConfig.getShardingTotalCount());
+        }
         return hasRunningItems(getAllItems());
     }
     
@@ -147,6 +162,16 @@ public final class ExecutionService {
      */
     public Map<Integer, JobInstance> getAllRunningItems() {
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
+        RunningItemIndex runningItemIndex = JobRegistry.getInstance().getRunningItemIndex(jobName);
+        if (runningItemIndex.isStarted()) {
+            Map<Integer, JobInstance> result = new LinkedHashMap<>();
+            for (Entry<Integer, String> entry : runningItemIndex.getRunningItems(shardingTotalCount).entrySet()) {
+                if (!Strings.isNullOrEmpty(entry.getValue())) {
+                    result.put(entry.getKey(), new JobInstance(entry.getValue()));
+                }
+            }
+            return result;
+        }
         Map<Integer, JobInstance> result = new LinkedHashMap<>(shardingTotalCount, 1);
         for (int i = 0; i < shardingTotalCount; i++) {
             String data = jobNodeStorage.getJobNodeData(ShardingNode.getRunningNode(i));
@@ -177,9 +202,7 @@ public final class ExecutionService {
      * @param items sharding items need to be set misfire flag
      */
     public void setMisfire(final Collection<Integer> items) {
-        for (int each : items) {
-            jobNodeStorage.createJobNodeIfNeeded(ShardingNode.getMisfireNode(each));
-        }
+        jobNodeStorage.createJobNodesIfNeeded(getMisfireNodes(items));
     }
     
     /**
@@ -204,9 +227,15 @@ public final class ExecutionService {
      * @param items sharding items need to be cleared
      */
     public void clearMisfire(final Collection<Integer> items) {
+        jobNodeStorage.removeJobNodesIfExisted(getMisfireNodes(items));
+    }
+    
+    private List<String> getMisfireNodes(final Collection<Integer> items) {
+        List<String> result = new ArrayList<>(items.size());
         for (int each : items) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getMisfireNode(each));
+            result.add(ShardingNode.getMisfireNode(each));
         }
+        return result;
     }
     
     /**
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Item duration service, which keeps smoothed execution durations of sharding items for duration aware sharding strategies.
+ * 
+ * <p>
+ * Durations of all items are stored in one node as comma split milliseconds, -1 for unknown.
+ * They are smoothed by exponentially weighted moving average, and only written back when the recorded duration differs significantly from the stored one.
+ * The node is written only if it is not changed since read, and merged again otherwise, so that job servers completing different items never overwrite each other.
+ * </p>
+ */
+@Slf4j
+public final class ItemDurationService {
+    
+    private static final String ITEM_SEPARATOR = ",";
+    
+    private static final long UNKNOWN = -1L;
+    
+    private static final double SMOOTHING_FACTOR = 0.3D;
+    
+    private static final double SIGNIFICANT_CHANGE_RATIO = 0.1D;
+    
+    private static final int MAX_PERSIST_ATTEMPTS = 3;
+    
+    private final JobNodeStorage jobNodeStorage;
+    
+    private final Map<Integer, Long> pendingDurations = new ConcurrentHashMap<>();
+    
+    public ItemDurationService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        jobNodeStorage = new JobNodeStorage(regCenter, jobName);
+    }
+    
+    /**
+     * Record execution duration of sharding item, which will be persisted on next {@link #persist()}.
+     * 
+     * @param item sharding item
+     * @param durationMillis execution duration in milliseconds
+     */
+    public void record(final int item, final long durationMillis) {
+        if (item >= 0 && durationMillis >= 0L) {
+            pendingDurations.put(item, durationMillis);
+        }
+    }
+    
+    /**
+     * Persist recorded durations merged with durations in registry center.
+     */
+    public void persist() {
+        if (pendingDurations.isEmpty()) {
+            return;
+        }
+        Map<Integer, Long> recordedDurations = new HashMap<>(pendingDurations.size(), 1F);
+        for (Entry<Integer, Long> entry : pendingDurations.entrySet()) {
+            pendingDurations.remove(entry.getKey(), entry.getValue());
+            recordedDurations.put(entry.getKey(), entry.getValue());
+        }
+        String data = jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS);
+        for (int i = 0; i < MAX_PERSIST_ATTEMPTS; i++) {
+            Map<Integer, Long> durations = unmarshal(data);
+            if (!merge(durations, recordedDurations) || jobNodeStorage.compareAndFillJobNode(ShardingNode.DURATIONS, data, marshal(durations))) {
+                return;
+            }
+            data = jobNodeStorage.getJobNodeDataDirectly(ShardingNode.DURATIONS);
+        }
+        log.debug("Durations of sharding items {} are not persisted because of concurrent modification.", recordedDurations.keySet());
+    }
+    
+    private boolean merge(final Map<Integer, Long> durations, final Map<Integer, Long> recordedDurations) {
+        boolean result = false;
+        for (Entry<Integer, Long> entry : recordedDurations.entrySet()) {
+            Long previous = durations.get(entry.getKey());
+            if (null == previous) {
+                durations.put(entry.getKey(), entry.getValue());
+                result = true;
+                continue;
+            }
+            if (Math.abs(entry.getValue() - previous) < previous * SIGNIFICANT_CHANGE_RATIO) {
+                continue;
+            }
+            long smoothed = Math.round(SMOOTHING_FACTOR * entry.getValue() + (1 - SMOOTHING_FACTOR) * previous);
+            if (smoothed != previous) {
+                durations.put(entry.getKey(), smoothed);
+                result = true;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Load durations of sharding items.
+     * 
+     * @return durations in milliseconds, key is sharding item
+     */
+    public Map<Integer, Long> load() {
+        return unmarshal(jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS));
+    }
+    
+    private Map<Integer, Long> unmarshal(final String data) {
+        Map<Integer, Long> result = new HashMap<>();
+        if (Strings.isNullOrEmpty(data)) {
+            return result;
+        }
+        String[] durations = data.split(ITEM_SEPARATOR);
+        try {
+            for (int i = 0; i < durations.length; i++) {
+                long duration = Long.parseLong(durations[i]);
+                if (UNKNOWN != duration) {
+                    result.put(i, duration);
+                }
+            }
+        } catch (final NumberFormatException ignored) {
+            result.clear();
+        }
+        return result;
+    }
+    
+    private String marshal(final Map<Integer, Long> durations) {
+        int maxItem = durations.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        StringBuilder result = new StringBuilder((maxItem + 1) * 4);
+        for (int i = 0; i <= maxItem; i++) {
+            if (i > 0) {
+                result.append(ITEM_SEPARATOR);
+            }
+            result.append(durations.getOrDefault(i, UNKNOWN));
+        }
+        return result.toString();
+    }
+}
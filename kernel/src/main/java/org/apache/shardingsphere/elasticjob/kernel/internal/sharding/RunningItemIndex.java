@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Running item index, which keeps running sharding items of a job and the job instance IDs running them.
+ * 
+ * <p>
+ * The index is loaded once when started and then maintained incrementally by job node change events,
+ * so judging any item running costs O(1) and listing running items costs O(running items) whatever the sharding total count.
+ * </p>
+ */
+public final class RunningItemIndex implements DataChangedEventListener {
+    
+    private static final String RUNNING_SUFFIX = "/running";
+    
+    private final String shardingPath;
+    
+    private final NavigableMap<Integer, String> runningItems = new ConcurrentSkipListMap<>();
+    
+    private volatile boolean started;
+    
+    public RunningItemIndex(final String jobName) {
+        shardingPath = new JobNodePath(jobName).getFullPath(ShardingNode.ROOT) + "/";
+    }
+    
+    /**
+     * Start running item index by loading running nodes.
+     * 
+     * <p>
+     * Running item index should be registered as job node change listener before started, changes before started are covered by the loading.
+     * </p>
+     * 
+     * @param jobNodeStorage job node storage
+     */
+    public synchronized void start(final JobNodeStorage jobNodeStorage) {
+        runningItems.clear();
+        for (String each : jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)) {
+            Integer item = parseItem(each);
+            if (null == item) {
+                continue;
+            }
+            String runningNode = ShardingNode.getRunningNode(item);
+            if (jobNodeStorage.isJobNodeExisted(runningNode)) {
+                String data = jobNodeStorage.getJobNodeData(runningNode);
+                runningItems.put(item, null == data ? "" : data);
+            }
+        }
+        started = true;
+    }
+    
+    /**
+     * Judge whether running item index is started or not.
+     * 
+     * @return running item index is started or not
+     */
+    public boolean isStarted() {
+        return started;
+    }
+    
+    @Override
+    public synchronized void onChange(final DataChangedEvent event) {
+        if (!started) {
+            return;
+        }
+        String path = event.getKey();
+        if (!path.startsWith(shardingPath) || !path.endsWith(RUNNING_SUFFIX) || path.length() <= shardingPath.length() + RUNNING_SUFFIX.length()) {
+            return;
+        }
+        Integer item = parseItem(path.substring(shardingPath.length(), path.length() - RUNNING_SUFFIX.length()));
+        if (null == item) {
+            return;
+        }
+        if (Type.DELETED == event.getType()) {
+            runningItems.remove(item);
+        } else {
+            runningItems.put(item, event.getValue());
+        }
+    }
+    
+    private Integer parseItem(final String item) {
+        for (int i = 0; i < item.length(); i++) {
+            if (!Character.isDigit(item.charAt(i))) {
+                return null;
+            }
+        }
+        return item.isEmpty() || item.length() > 9 ? null : Integer.parseInt(item);
+    }
+    
+    /**
+     * Judge whether sharding item is running or not.
+     * 
+     * @param item sharding item
+     * @return sharding item is running or not
+     */
+    public boolean isRunning(final int item) {
+        return runningItems.containsKey(item);
+    }
+    
+    /**
+     * Judge whether any sharding item less than sharding total count is running or not.
+     * 
+     * @param shardingTotalCount sharding total count
+     * @return any sharding item is running or not
+     */
+    public boolean hasRunningItems(final int shardingTotalCount) {
+        return !runningItems.headMap(shardingTotalCount).isEmpty();
+    }
+    
+    /**
+     * Get running sharding items less than sharding total count and job instance IDs running them.
+     * 
+     * @param shardingTotalCount sharding total count
+     * @return job instance IDs, key is sharding item
+     */
+    public Map<Integer, String> getRunningItems(final int shardingTotalCount) {
+        return Collections.unmodifiableMap(runningItems.headMap(shardingTotalCount));
+    }
+}
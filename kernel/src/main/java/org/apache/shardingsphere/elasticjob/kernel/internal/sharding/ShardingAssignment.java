@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Sharding assignment, which stores the whole sharding result of a job in one node.
+ * 
+ * <p>
+ * Format is lines of: format version, comma split instance indexes of each sharding item (-1 for unassigned), then instance IDs.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingAssignment {
+    
+    public static final int FORMAT_VERSION = 1;
+    
+    private static final String LINE_SEPARATOR = "\n";
+    
+    private static final String ITEM_SEPARATOR = ",";
+    
+    private static final int UNASSIGNED = -1;
+    
+    private final List<String> instanceIds;
+    
+    private final int[] instanceIndexes;
+    
+    /**
+     * Create sharding assignment from sharding results.
+     * 
+     * @param shardingResults sharding results
+     * @param shardingTotalCount sharding total count
+     * @return sharding assignment
+     */
+    public static ShardingAssignment of(final Map<JobInstance, List<Integer>> shardingResults, final int shardingTotalCount) {
+        List<String> instanceIds = new ArrayList<>(shardingResults.size());
+        int[] instanceIndexes = new int[shardingTotalCount];
+        Arrays.fill(instanceIndexes, UNASSIGNED);
+        for (Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            int instanceIndex = instanceIds.size();
+            instanceIds.add(entry.getKey().getJobInstanceId());
+            for (int each : entry.getValue()) {
+                if (each >= 0 && each < shardingTotalCount) {
+                    instanceIndexes[each] = instanceIndex;
+                }
+            }
+        }
+        return new ShardingAssignment(instanceIds, instanceIndexes);
+    }
+    
+    /**
+     * Unmarshal sharding assignment.
+     * 
+     * @param data data of sharding assignment node
+     * @return sharding assignment
+     * @throws JobSystemException if format version is not supported
+     */
+    public static ShardingAssignment unmarshal(final String data) {
+        String[] lines = data.split(LINE_SEPARATOR, -1);
+        if (lines.length < 2 || !String.valueOf(FORMAT_VERSION).equals(lines[0])) {
+            throw new JobSystemException("Unsupported sharding assignment format version '%s'.", lines[0]);
+        }
+        List<String> instanceIds = new ArrayList<>(Arrays.asList(lines).subList(2, lines.length));
+        if (lines[1].isEmpty()) {
+            return new ShardingAssignment(instanceIds, new int[0]);
+        }
+        String[] items = lines[1].split(ITEM_SEPARATOR);
+        int[] instanceIndexes = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            instanceIndexes[i] = Integer.parseInt(items[i]);
+        }
+        return new ShardingAssignment(instanceIds, instanceIndexes);
+    }
+    
+    /**
+     * Marshal sharding assignment.
+     * 
+     * @return data of sharding assignment node
+     */
+    public String marshal() {
+        StringBuilder result = new StringBuilder(instanceIndexes.length * 3 + instanceIds.size() * 32);
+        result.append(FORMAT_VERSION).append(LINE_SEPARATOR);
+        for (int i = 0; i < instanceIndexes.length; i++) {
+            if (i > 0) {
+                result.append(ITEM_SEPARATOR);
+            }
+            result.append(instanceIndexes[i]);
+        }
+        for (String each : instanceIds) {
+            result.append(LINE_SEPARATOR).append(each);
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Get sharding total count of assignment.
+     * 
+     * @return sharding total count
+     */
+    public int getShardingTotalCount() {
+        return instanceIndexes.length;
+    }
+    
+    /**
+     * Get job instance ID which sharding item assigned to.
+     * 
+     * @param item sharding item
+     * @return job instance ID, null if sharding item is unassigned
+     */
+    public String getJobInstanceId(final int item) {
+        if (item < 0 || item >= instanceIndexes.length || UNASSIGNED == instanceIndexes[item]) {
+            return null;
+        }
+        return instanceIds.get(instanceIndexes[item]);
+    }
+    
+    /**
+     * Get sharding items assigned to job instance.
+     * 
+     * @param jobInstanceId job instance ID
+     * @return sharding items
+     */
+    public List<Integer> getShardingItems(final String jobInstanceId) {
+        int instanceIndex = instanceIds.indexOf(jobInstanceId);
+        if (UNASSIGNED == instanceIndex) {
+            return new ArrayList<>();
+        }
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < instanceIndexes.length; i++) {
+            if (instanceIndex == instanceIndexes[i]) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether all sharding items are assigned.
+     * 
+     * @param shardingTotalCount sharding total count
+     * @return all sharding items are assigned or not
+     */
+    public boolean isAllAssigned(final int shardingTotalCount) {
+        if (instanceIndexes.length < shardingTotalCount) {
+            return false;
+        }
+        for (int i = 0; i < shardingTotalCount; i++) {
+            if (UNASSIGNED == instanceIndexes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get assigned job instance IDs.
+     * 
+     * @return assigned job instance IDs
+     */
+    public List<String> getJobInstanceIds() {
+        return Collections.unmodifiableList(instanceIds);
+    }
+}
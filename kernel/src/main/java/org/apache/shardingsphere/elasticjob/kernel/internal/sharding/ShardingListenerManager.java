@@ -65,6 +65,8 @@ public final class ShardingListenerManager extends AbstractListenerManager {
     public void start() {
         addDataListener(new ShardingTotalCountChangedJobListener());
         addDataListener(new ListenServersChangedJobListener());
+        addDataListener(new ReshardingFlagChangedJobListener());
+        JobRegistry.getInstance().initReshardingFlag(jobName, shardingService.isNeedSharding());
     }
     
     class ShardingTotalCountChangedJobListener implements DataChangedEventListener {
@@ -81,6 +83,16 @@ public final class ShardingListenerManager extends AbstractListenerManager {
         }
     }
     
+    class ReshardingFlagChangedJobListener implements DataChangedEventListener {
+        
+        @Override
+        public void onChange(final DataChangedEvent event) {
+            if (!JobRegistry.getInstance().isShutdown(jobName) && jobNodePath.getFullPath(ShardingNode.NECESSARY).equals(event.getKey())) {
+                JobRegistry.getInstance().setReshardingFlag(jobName, Type.DELETED != event.getType());
+            }
+        }
+    }
+    
     class ListenServersChangedJobListener implements DataChangedEventListener {
         
         @Override
@@ -95,7 +107,7 @@ public final class ShardingListenerManager extends AbstractListenerManager {
         }
         
         private boolean hasShardingInfo() {
-            return !JobRegistry.getInstance().getRegCenter(jobName).getChildrenKeys(jobNodePath.getShardingNodePath()).isEmpty();
+            return 0 < JobRegistry.getInstance().getRegCenter(jobName).getNumChildren(jobNodePath.getShardingNodePath()) || shardingService.hasShardingAssignment();
         }
         
         private boolean isInstanceChange(final Type eventType, final String path) {
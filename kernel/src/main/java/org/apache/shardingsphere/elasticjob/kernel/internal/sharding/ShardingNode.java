@@ -27,6 +27,10 @@ public final class ShardingNode {
     
     public static final String ROOT = "sharding";
     
+    public static final String ASSIGNMENT = "assignment";
+    
+    public static final String DURATIONS = "durations";
+    
     private static final String INSTANCE_APPENDIX = "instance";
     
     private static final String INSTANCE = ROOT + "/%s/" + INSTANCE_APPENDIX;
@@ -39,12 +43,16 @@ public final class ShardingNode {
     
     private static final String DISABLED = ROOT + "/%s/disabled";
     
+    private static final String CHECKPOINT = ROOT + "/%s/checkpoint";
+    
     private static final String LEADER_ROOT = LeaderNode.ROOT + "/" + ROOT;
     
     static final String NECESSARY = LEADER_ROOT + "/necessary";
     
     static final String PROCESSING = LEADER_ROOT + "/processing";
     
+    static final String FINGERPRINT = LEADER_ROOT + "/fingerprint";
+    
     private final JobNodePath jobNodePath;
     
     public ShardingNode(final String jobName) {
@@ -79,6 +87,10 @@ public final class ShardingNode {
         return String.format(DISABLED, item);
     }
     
+    static String getCheckpointNode(final int item) {
+        return String.format(CHECKPOINT, item);
+    }
+    
     /**
      * Get item by running item path.
      *
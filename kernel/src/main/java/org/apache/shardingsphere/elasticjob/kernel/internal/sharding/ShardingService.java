@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
-import org.apache.shardingsphere.elasticjob.infra.concurrent.BlockUtils;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.DurationAwareJobShardingStrategy;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobShardingStrategy;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobShardingStrategyFactory;
 import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.kernel.api.props.KernelJobProperties;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.election.LeaderService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceNode;
@@ -38,10 +41,10 @@ import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOper
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Sharding service.
@@ -49,6 +52,8 @@ import java.util.Map.Entry;
 @Slf4j
 public final class ShardingService {
     
+    private static final long WAIT_TIMEOUT_MILLISECONDS = 1000L;
+    
     private final String jobName;
     
     private final JobNodeStorage jobNodeStorage;
@@ -65,6 +70,8 @@ public final class ShardingService {
     
     private final ExecutionService executionService;
     
+    private final ItemDurationService itemDurationService;
+    
     private final JobNodePath jobNodePath;
     
     public ShardingService(final CoordinatorRegistryCenter regCenter, final String jobName) {
@@ -76,6 +83,7 @@ public final class ShardingService {
         instanceNode = new InstanceNode(jobName);
         serverService = new ServerService(regCenter, jobName);
         executionService = new ExecutionService(regCenter, jobName);
+        itemDurationService = new ItemDurationService(regCenter, jobName);
         jobNodePath = new JobNodePath(jobName);
     }
     
@@ -98,12 +106,25 @@ public final class ShardingService {
         return jobNodeStorage.isJobNodeExisted(ShardingNode.NECESSARY);
     }
     
+    /**
+     * Judge is need resharding or not by resharding flag maintained by job node change events.
+     * 
+     * <p>Registry center is not accessed unless the flag is not maintained yet, but the flag may lag behind registry center slightly.</p>
+     * 
+     * @return is need resharding or not
+     */
+    public boolean isReshardingPending() {
+        Boolean result = JobRegistry.getInstance().getReshardingFlag(jobName);
+        return null == result ? isNeedSharding() : result;
+    }
+    
     /**
      * Sharding if necessary.
      * 
      * <p>
      * Sharding if current job server is leader server;
      * Do not sharding if no available job server. 
+     * Only clear resharding flag if available job instances and sharding configuration are unchanged since the latest sharding.
      * </p>
      */
     public void shardingIfNecessary() {
@@ -115,28 +136,61 @@ public final class ShardingService {
             blockUntilShardingCompleted();
             return;
         }
-        waitingOtherShardingItemCompleted();
         JobConfiguration jobConfig = configService.load(false);
+        String fingerprint = getShardingFingerprint(jobConfig, availableJobInstances);
+        if (isShardingUnchanged(fingerprint)) {
+            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.NECESSARY);
+            log.debug("Job '{}' sharding skipped, job instances and configuration are unchanged.", jobName);
+            return;
+        }
+        waitingOtherShardingItemCompleted();
         int shardingTotalCount = jobConfig.getShardingTotalCount();
         log.debug("Job '{}' sharding begin.", jobName);
         jobNodeStorage.fillEphemeralJobNode(ShardingNode.PROCESSING, "");
-        resetShardingInfo(shardingTotalCount);
-        JobShardingStrategy jobShardingStrategy = JobShardingStrategyFactory.getStrategy(jobConfig.getJobShardingStrategyType());
-        jobNodeStorage.executeInTransaction(getShardingResultTransactionOperations(jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount)));
+        Map<JobInstance, List<Integer>> shardingResults = sharding(JobShardingStrategyFactory.getStrategy(jobConfig.getJobShardingStrategyType()), availableJobInstances, shardingTotalCount);
+        if (isCompactShardingAssignment(jobConfig)) {
+            removeLegacyShardingInfo(shardingTotalCount);
+            jobNodeStorage.executeInTransaction(getShardingAssignmentTransactionOperations(ShardingAssignment.of(shardingResults, shardingTotalCount), fingerprint));
+        } else {
+            resetShardingInfo(shardingTotalCount);
+            jobNodeStorage.executeInTransaction(getShardingResultTransactionOperations(shardingResults, fingerprint));
+        }
         log.debug("Job '{}' sharding complete.", jobName);
     }
     
+    private String getShardingFingerprint(final JobConfiguration jobConfig, final List<JobInstance> availableJobInstances) {
+        Hasher hasher = Hashing.sha256().newHasher().putString(String.valueOf(jobConfig.getJobShardingStrategyType()), StandardCharsets.UTF_8)
+                .putInt(jobConfig.getShardingTotalCount()).putBoolean(isCompactShardingAssignment(jobConfig));
+        availableJobInstances.stream().map(JobInstance::getJobInstanceId).sorted().forEach(each -> hasher.putString(each, StandardCharsets.UTF_8).putChar(','));
+        return hasher.hash().toString();
+    }
+    
+    private boolean isShardingUnchanged(final String fingerprint) {
+        return fingerprint.equals(jobNodeStorage.getJobNodeData(ShardingNode.FINGERPRINT)) && !hasShardingInfoInOfflineServers();
+    }
+    
+    private Map<JobInstance, List<Integer>> sharding(final JobShardingStrategy jobShardingStrategy, final List<JobInstance> availableJobInstances, final int shardingTotalCount) {
+        if (jobShardingStrategy instanceof DurationAwareJobShardingStrategy) {
+            return ((DurationAwareJobShardingStrategy) jobShardingStrategy).sharding(availableJobInstances, jobName, shardingTotalCount, itemDurationService.load());
+        }
+        return jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount);
+    }
+    
     private void blockUntilShardingCompleted() {
-        while (!leaderService.isLeaderUntilBlock() && (jobNodeStorage.isJobNodeExisted(ShardingNode.NECESSARY) || jobNodeStorage.isJobNodeExisted(ShardingNode.PROCESSING))) {
-            log.debug("Job '{}' sleep short time until sharding completed.", jobName);
-            BlockUtils.waitingShortTime();
+        while (!leaderService.isLeaderUntilBlock() && isShardingInProgress()) {
+            log.debug("Job '{}' wait until sharding completed.", jobName);
+            jobNodeStorage.waitUntil(() -> !leaderService.hasLeader() || !isShardingInProgress(), WAIT_TIMEOUT_MILLISECONDS);
         }
     }
     
+    private boolean isShardingInProgress() {
+        return jobNodeStorage.isJobNodeExisted(ShardingNode.NECESSARY) || jobNodeStorage.isJobNodeExisted(ShardingNode.PROCESSING);
+    }
+    
     private void waitingOtherShardingItemCompleted() {
         while (executionService.hasRunningItems()) {
-            log.debug("Job '{}' sleep short time until other job completed.", jobName);
-            BlockUtils.waitingShortTime();
+            log.debug("Job '{}' wait until other job completed.", jobName);
+            jobNodeStorage.waitUntil(() -> !executionService.hasRunningItems(), WAIT_TIMEOUT_MILLISECONDS);
         }
     }
     
@@ -153,8 +207,39 @@ public final class ShardingService {
         }
     }
     
-    private List<TransactionOperation> getShardingResultTransactionOperations(final Map<JobInstance, List<Integer>> shardingResults) {
-        List<TransactionOperation> result = new ArrayList<>(shardingResults.size() + 2);
+    private boolean isCompactShardingAssignment(final JobConfiguration jobConfig) {
+        return Boolean.parseBoolean(jobConfig.getProps().getOrDefault(KernelJobProperties.COMPACT_SHARDING_ASSIGNMENT_KEY, false).toString());
+    }
+    
+    private void removeLegacyShardingInfo(final int shardingTotalCount) {
+        if (isJobNodeCached(ShardingNode.getInstanceNode(0)) || jobNodeStorage.isJobNodeExisted(ShardingNode.getInstanceNode(0))) {
+            List<String> legacyInstanceNodes = new ArrayList<>(shardingTotalCount);
+            for (int i = 0; i < shardingTotalCount; i++) {
+                legacyInstanceNodes.add(ShardingNode.getInstanceNode(i));
+            }
+            jobNodeStorage.removeJobNodesIfExisted(legacyInstanceNodes);
+        }
+        for (int i = shardingTotalCount; isJobNodeCached(ShardingNode.ROOT + "/" + i); i++) {
+            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.ROOT + "/" + i);
+        }
+    }
+    
+    private boolean isJobNodeCached(final String node) {
+        return jobNodeStorage.getJobNodeDataVersion(node) > 0L;
+    }
+    
+    private List<TransactionOperation> getShardingAssignmentTransactionOperations(final ShardingAssignment assignment, final String fingerprint) {
+        List<TransactionOperation> result = new ArrayList<>(4);
+        String key = jobNodePath.getFullPath(ShardingNode.ASSIGNMENT);
+        result.add(jobNodeStorage.isJobNodeExisted(ShardingNode.ASSIGNMENT) ? TransactionOperation.opUpdate(key, assignment.marshal()) : TransactionOperation.opAdd(key, assignment.marshal()));
+        result.add(getFingerprintTransactionOperation(fingerprint));
+        result.add(TransactionOperation.opDelete(jobNodePath.getFullPath(ShardingNode.NECESSARY)));
+        result.add(TransactionOperation.opDelete(jobNodePath.getFullPath(ShardingNode.PROCESSING)));
+        return result;
+    }
+    
+    private List<TransactionOperation> getShardingResultTransactionOperations(final Map<JobInstance, List<Integer>> shardingResults, final String fingerprint) {
+        List<TransactionOperation> result = new ArrayList<>(shardingResults.size() + 4);
         for (Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
             for (int shardingItem : entry.getValue()) {
                 String key = jobNodePath.getFullPath(ShardingNode.getInstanceNode(shardingItem));
@@ -162,11 +247,20 @@ public final class ShardingService {
                 result.add(TransactionOperation.opAdd(key, value));
             }
         }
+        if (jobNodeStorage.isJobNodeExisted(ShardingNode.ASSIGNMENT)) {
+            result.add(TransactionOperation.opDelete(jobNodePath.getFullPath(ShardingNode.ASSIGNMENT)));
+        }
+        result.add(getFingerprintTransactionOperation(fingerprint));
         result.add(TransactionOperation.opDelete(jobNodePath.getFullPath(ShardingNode.NECESSARY)));
         result.add(TransactionOperation.opDelete(jobNodePath.getFullPath(ShardingNode.PROCESSING)));
         return result;
     }
     
+    private TransactionOperation getFingerprintTransactionOperation(final String fingerprint) {
+        String key = jobNodePath.getFullPath(ShardingNode.FINGERPRINT);
+        return jobNodeStorage.isJobNodeExisted(ShardingNode.FINGERPRINT) ? TransactionOperation.opUpdate(key, fingerprint) : TransactionOperation.opAdd(key, fingerprint);
+    }
+    
     /**
      * Get sharding items.
      *
@@ -178,8 +272,12 @@ public final class ShardingService {
         if (!serverService.isAvailableServer(jobInstance.getServerIp())) {
             return Collections.emptyList();
         }
-        List<Integer> result = new LinkedList<>();
+        Optional<ShardingAssignment> assignment = loadShardingAssignment();
+        if (assignment.isPresent()) {
+            return assignment.get().getShardingItems(jobInstance.getJobInstanceId());
+        }
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
+        List<Integer> result = new ArrayList<>();
         for (int i = 0; i < shardingTotalCount; i++) {
             if (jobInstance.getJobInstanceId().equals(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
                 result.add(i);
@@ -199,7 +297,16 @@ public final class ShardingService {
         if (!serverService.isEnableServer(serverIp)) {
             return Collections.emptyList();
         }
-        List<Integer> result = new LinkedList<>();
+        Optional<ShardingAssignment> assignment = loadShardingAssignment();
+        List<Integer> result = new ArrayList<>();
+        if (assignment.isPresent()) {
+            for (int each : assignment.get().getShardingItems(jobInstanceId)) {
+                if (isRunningItem(each)) {
+                    result.add(each);
+                }
+            }
+            return result;
+        }
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
         for (int i = 0; i < shardingTotalCount; i++) {
             if (isRunningItem(i) && jobInstanceId.equals(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
@@ -233,6 +340,10 @@ public final class ShardingService {
     public boolean hasShardingInfoInOfflineServers() {
         List<String> onlineInstances = jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT);
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
+        Optional<ShardingAssignment> assignment = loadShardingAssignment();
+        if (assignment.isPresent()) {
+            return !assignment.get().isAllAssigned(shardingTotalCount) || !onlineInstances.containsAll(assignment.get().getJobInstanceIds());
+        }
         for (int i = 0; i < shardingTotalCount; i++) {
             if (!onlineInstances.contains(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
                 return true;
@@ -241,4 +352,27 @@ public final class ShardingService {
         return false;
     }
     
+    /**
+     * Judge has sharding assignment or not.
+     * 
+     * @return has sharding assignment or not
+     */
+    public boolean hasShardingAssignment() {
+        return jobNodeStorage.isJobNodeExisted(ShardingNode.ASSIGNMENT);
+    }
+    
+    /**
+     * Load sharding assignment.
+     * 
+     * <p>Assignment node not found in cache is read from registry center, unless legacy sharding info is found in cache.</p>
+     * 
+     * @return sharding assignment, absent if sharding result is stored as an instance node per sharding item
+     */
+    public Optional<ShardingAssignment> loadShardingAssignment() {
+        if (!isJobNodeCached(ShardingNode.ASSIGNMENT) && isJobNodeCached(ShardingNode.getInstanceNode(0))) {
+            return Optional.empty();
+        }
+        String data = jobNodeStorage.getJobNodeData(ShardingNode.ASSIGNMENT);
+        return null == data || data.isEmpty() ? Optional.empty() : Optional.of(ShardingAssignment.unmarshal(data));
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.storage;
+
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Job node change signal, which wakes up threads waiting for conditions of job nodes once job nodes changed.
+ */
+public final class JobNodeChangeSignal implements DataChangedEventListener {
+    
+    private long changedCount;
+    
+    @Override
+    public synchronized void onChange(final DataChangedEvent event) {
+        changedCount++;
+        notifyAll();
+    }
+    
+    /**
+     * Wake up all waiting threads to check their conditions again.
+     */
+    public synchronized void wakeUp() {
+        changedCount++;
+        notifyAll();
+    }
+    
+    /**
+     * Wait until condition satisfied.
+     * 
+     * <p>
+     * Condition is checked at first and after every change of job nodes, until timeout.
+     * </p>
+     * 
+     * @param condition condition to be satisfied
+     * @param timeoutMilliseconds timeout milliseconds
+     * @return condition satisfied or not
+     */
+    public boolean await(final BooleanSupplier condition, final long timeoutMilliseconds) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+        while (true) {
+            long observedChangedCount = getChangedCount();
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                return false;
+            }
+            try {
+                waitForChange(observedChangedCount, remainingNanos);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return condition.getAsBoolean();
+            }
+        }
+    }
+    
+    private synchronized long getChangedCount() {
+        return changedCount;
+    }
+    
+    private synchronized void waitForChange(final long observedChangedCount, final long remainingNanos) throws InterruptedException {
+        if (observedChangedCount == changedCount) {
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+        }
+    }
+}
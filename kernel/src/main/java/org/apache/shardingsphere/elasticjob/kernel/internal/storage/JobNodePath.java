@@ -39,6 +39,8 @@ public final class JobNodePath {
     
     private static final String SHARDING_NODE = "sharding";
     
+    private static final String SHARDING_ASSIGNMENT_NODE = "assignment";
+    
     private final String jobName;
     
     /**
@@ -126,4 +128,13 @@ public final class JobNodePath {
     public String getShardingNodePath(final String item, final String nodeName) {
         return String.format("%s/%s/%s", getShardingNodePath(), item, nodeName);
     }
+    
+    /**
+     * Get sharding assignment node path.
+     *
+     * @return sharding assignment node path
+     */
+    public String getShardingAssignmentNodePath() {
+        return String.format("/%s/%s", jobName, SHARDING_ASSIGNMENT_NODE);
+    }
 }
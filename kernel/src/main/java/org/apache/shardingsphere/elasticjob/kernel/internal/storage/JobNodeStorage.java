@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.storage;
 
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.JobMembership;
 import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerNotifierManager;
+import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.RunningItemIndex;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
 import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
@@ -26,14 +29,26 @@ import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedE
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 /**
  * Job node storage.
  */
 public final class JobNodeStorage {
     
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
+    private static final int OPERATION_OVERHEAD_BYTES = 32;
+    
     private final CoordinatorRegistryCenter regCenter;
     
     private final String jobName;
@@ -85,6 +100,16 @@ public final class JobNodeStorage {
         return regCenter.getDirectly(jobNodePath.getFullPath(node));
     }
     
+    /**
+     * Get job node data version from cache.
+     * 
+     * @param node node
+     * @return data version of job node, or -1 if job node is not cached
+     */
+    public long getJobNodeDataVersion(final String node) {
+        return regCenter.getCachedVersion(jobNodePath.getFullPath(node));
+    }
+    
     /**
      * Get job node children keys.
      * 
@@ -138,6 +163,18 @@ public final class JobNodeStorage {
         regCenter.persist(jobNodePath.getFullPath(node), value.toString());
     }
     
+    /**
+     * Fill job node only if its current data is the expected one.
+     * 
+     * @param node node
+     * @param expectedValue expected current data of job node, null if job node is expected to be absent
+     * @param value data of job node
+     * @return filled or not
+     */
+    public boolean compareAndFillJobNode(final String node, final String expectedValue, final Object value) {
+        return regCenter.compareAndPersist(jobNodePath.getFullPath(node), expectedValue, value.toString());
+    }
+    
     /**
      * Fill ephemeral job node.
      * 
@@ -177,6 +214,143 @@ public final class JobNodeStorage {
         regCenter.persist("/" + jobName, value.toString());
     }
     
+    /**
+     * Fill job nodes in batch.
+     * 
+     * @param nodes nodes
+     * @param value data of job nodes
+     */
+    public void fillJobNodes(final Collection<String> nodes, final Object value) {
+        executeInBatch(nodes, true, (node, operations) -> operations.add(isJobNodeCached(node)
+                ? TransactionOperation.opUpdate(jobNodePath.getFullPath(node), value.toString()) : TransactionOperation.opAdd(jobNodePath.getFullPath(node), value.toString())),
+                node -> fillJobNode(node, value));
+    }
+    
+    /**
+     * Fill job nodes with their own data in batch.
+     * 
+     * @param nodeValues data of job nodes, keyed by nodes
+     */
+    public void fillJobNodes(final Map<String, ?> nodeValues) {
+        executeInBatch(nodeValues.keySet(), true, (node, operations) -> operations.add(isJobNodeCached(node)
+                ? TransactionOperation.opUpdate(jobNodePath.getFullPath(node), nodeValues.get(node).toString())
+                : TransactionOperation.opAdd(jobNodePath.getFullPath(node), nodeValues.get(node).toString())),
+                node -> fillJobNode(node, nodeValues.get(node)));
+    }
+    
+    /**
+     * Fill ephemeral job nodes in batch.
+     * 
+     * @param nodes nodes
+     * @param value data of job nodes
+     */
+    public void fillEphemeralJobNodes(final Collection<String> nodes, final Object value) {
+        executeInBatch(nodes, true, (node, operations) -> {
+            if (isJobNodeCached(node)) {
+                operations.add(TransactionOperation.opDelete(jobNodePath.getFullPath(node)));
+            }
+            return operations.add(TransactionOperation.opAddEphemeral(jobNodePath.getFullPath(node), value.toString()));
+        }, node -> fillEphemeralJobNode(node, value));
+    }
+    
+    /**
+     * Create job nodes if needed in batch.
+     * 
+     * <p>Do not create nodes if root node not existed, which means job is shutdown.</p>
+     * 
+     * @param nodes nodes
+     */
+    public void createJobNodesIfNeeded(final Collection<String> nodes) {
+        executeInBatch(nodes, true, (node, operations) -> operations.add(isJobNodeCached(node)
+                ? TransactionOperation.opCheckExists(jobNodePath.getFullPath(node)) : TransactionOperation.opAdd(jobNodePath.getFullPath(node), "")), this::createJobNodeIfNeeded);
+    }
+    
+    /**
+     * Remove job nodes if existed in batch.
+     * 
+     * <p>Nodes absent from cache are checked and removed one by one.</p>
+     * 
+     * @param nodes nodes
+     */
+    public void removeJobNodesIfExisted(final Collection<String> nodes) {
+        executeInBatch(nodes, false, (node, operations) -> isJobNodeCached(node) && operations.add(TransactionOperation.opDelete(jobNodePath.getFullPath(node))), this::removeJobNodeIfExisted);
+    }
+    
+    /**
+     * Remove job nodes asynchronously, the removals are pipelined rather than waiting for each other.
+     * 
+     * @param nodes nodes
+     * @return future of removing
+     */
+    public CompletableFuture<Void> removeJobNodesAsync(final Collection<String> nodes) {
+        return CompletableFuture.allOf(nodes.stream().map(each -> regCenter.removeAsync(jobNodePath.getFullPath(each))).toArray(CompletableFuture[]::new));
+    }
+    
+    private boolean isJobNodeCached(final String node) {
+        return getJobNodeDataVersion(node) > 0L;
+    }
+    
+    /**
+     * Execute operations planned from cached state of nodes in transactions, which are split to respect the max packet size of registry center.
+     * Nodes which cannot be planned, or belong to a failed transaction (e.g. cache is stale), are executed one by one.
+     */
+    private void executeInBatch(final Collection<String> nodes, final boolean createParents,
+                                final BiPredicate<String, List<TransactionOperation>> operationsPlanner, final Consumer<String> oneByOneExecutor) {
+        List<String> batchNodes = new ArrayList<>();
+        List<TransactionOperation> batchOperations = new ArrayList<>();
+        Set<String> plannedParentNodes = new HashSet<>();
+        int batchBytes = 0;
+        for (String each : nodes) {
+            List<TransactionOperation> operations = new ArrayList<>(3);
+            if (createParents) {
+                for (String parent : getParentNodes(each)) {
+                    if (!isJobNodeCached(parent) && plannedParentNodes.add(parent)) {
+                        operations.add(TransactionOperation.opAdd(jobNodePath.getFullPath(parent), ""));
+                    }
+                }
+            }
+            if (!operationsPlanner.test(each, operations)) {
+                oneByOneExecutor.accept(each);
+                continue;
+            }
+            int bytes = estimateBytes(operations);
+            if (!batchNodes.isEmpty() && batchBytes + bytes > MAX_TRANSACTION_BYTES) {
+                executeBatchInTransaction(batchNodes, batchOperations, oneByOneExecutor);
+                batchNodes = new ArrayList<>();
+                batchOperations = new ArrayList<>();
+                batchBytes = 0;
+            }
+            batchNodes.add(each);
+            batchOperations.addAll(operations);
+            batchBytes += bytes;
+        }
+        if (!batchNodes.isEmpty()) {
+            executeBatchInTransaction(batchNodes, batchOperations, oneByOneExecutor);
+        }
+    }
+    
+    private List<String> getParentNodes(final String node) {
+        List<String> result = new ArrayList<>(2);
+        for (int i = node.indexOf('/'); i > 0; i = node.indexOf('/', i + 1)) {
+            result.add(node.substring(0, i));
+        }
+        return result;
+    }
+    
+    private int estimateBytes(final List<TransactionOperation> operations) {
+        int result = 0;
+        for (TransactionOperation each : operations) {
+            result += OPERATION_OVERHEAD_BYTES + each.getKey().length() + (null == each.getValue() ? 0 : each.getValue().length());
+        }
+        return result;
+    }
+    
+    private void executeBatchInTransaction(final List<String> nodes, final List<TransactionOperation> operations, final Consumer<String> oneByOneExecutor) {
+        if (!tryExecuteInTransaction(operations)) {
+            nodes.forEach(oneByOneExecutor);
+        }
+    }
+    
     /**
      * Execute operations in transaction.
      * 
@@ -195,6 +369,26 @@ public final class JobNodeStorage {
         }
     }
     
+    /**
+     * Try to execute operations in transaction, which fails if root node not existed.
+     * 
+     * @param transactionOperations operations to be executed in transaction
+     * @return executed or not
+     */
+    public boolean tryExecuteInTransaction(final List<TransactionOperation> transactionOperations) {
+        List<TransactionOperation> operations = new ArrayList<>(transactionOperations.size() + 1);
+        operations.add(TransactionOperation.opCheckExists("/" + jobName));
+        operations.addAll(transactionOperations);
+        try {
+            regCenter.executeInTransaction(operations);
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+    }
+    
     /**
      * Execute in leader server.
      * 
@@ -224,6 +418,57 @@ public final class JobNodeStorage {
         regCenter.watch("/" + jobName, listener, executor);
     }
     
+    /**
+     * Add job node change signal listener.
+     * 
+     * <p>
+     * The signal is notified by registry center directly instead of job listener notify executor,
+     * so waiting in job listeners can be woken up too.
+     * </p>
+     */
+    public void addChangeSignalListener() {
+        regCenter.watch("/" + jobName, JobRegistry.getInstance().getJobNodeChangeSignal(jobName), null);
+    }
+    
+    /**
+     * Add job membership listener and start job membership.
+     * 
+     * <p>
+     * The membership is updated by registry center directly instead of job listener notify executor,
+     * so it changes in the same order as cached job nodes, and before job listeners added later are notified.
+     * </p>
+     */
+    public void addMembershipListener() {
+        JobMembership jobMembership = JobRegistry.getInstance().getJobMembership(jobName);
+        regCenter.watch("/" + jobName, jobMembership, null);
+        jobMembership.start(this);
+    }
+    
+    /**
+     * Add running item index listener and start running item index.
+     * 
+     * <p>
+     * The running item index is updated by registry center directly instead of job listener notify executor,
+     * so it changes in the same order as cached job nodes, and before job listeners added later are notified.
+     * </p>
+     */
+    public void addRunningItemIndexListener() {
+        RunningItemIndex runningItemIndex = JobRegistry.getInstance().getRunningItemIndex(jobName);
+        regCenter.watch("/" + jobName, runningItemIndex, null);
+        runningItemIndex.start(this);
+    }
+    
+    /**
+     * Wait until condition of job nodes satisfied.
+     * 
+     * @param condition condition of job nodes
+     * @param timeoutMilliseconds timeout milliseconds
+     * @return condition satisfied or not
+     */
+    public boolean waitUntil(final BooleanSupplier condition, final long timeoutMilliseconds) {
+        return JobRegistry.getInstance().getJobNodeChangeSignal(jobName).await(condition, timeoutMilliseconds);
+    }
+    
     /**
      * Get registry center time.
      * 
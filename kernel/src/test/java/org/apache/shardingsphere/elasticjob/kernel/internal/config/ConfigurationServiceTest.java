@@ -32,10 +32,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Map;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +86,56 @@ class ConfigurationServiceTest {
         assertThat(actual.getShardingTotalCount(), is(3));
     }
     
+    @Test
+    void assertLoadFromCacheWithSameVersion() {
+        when(jobNodeStorage.getJobNodeDataVersion(ConfigurationNode.ROOT)).thenReturn(1L);
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(LiteYamlConstants.getJobYaml());
+        JobConfiguration expected = configService.load(true);
+        assertThat(configService.load(true), sameInstance(expected));
+        verify(jobNodeStorage).getJobNodeData(ConfigurationNode.ROOT);
+        JobConfigurationCache.getInstance().invalidate("test_job");
+    }
+    
+    @Test
+    void assertLoadFromCacheWithChangedVersion() {
+        when(jobNodeStorage.getJobNodeDataVersion(ConfigurationNode.ROOT)).thenReturn(1L, 2L);
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(LiteYamlConstants.getJobYaml(), LiteYamlConstants.getJobYaml(-1));
+        assertThat(configService.load(true).getMaxTimeDiffSeconds(), not(-1));
+        assertThat(configService.load(true).getMaxTimeDiffSeconds(), is(-1));
+        verify(jobNodeStorage, times(2)).getJobNodeData(ConfigurationNode.ROOT);
+        JobConfigurationCache.getInstance().invalidate("test_job");
+    }
+    
+    @Test
+    void assertLoadFromCacheWithUnknownVersion() {
+        when(jobNodeStorage.getJobNodeDataVersion(ConfigurationNode.ROOT)).thenReturn(-1L);
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(LiteYamlConstants.getJobYaml());
+        assertThat(configService.load(true), not(sameInstance(configService.load(true))));
+        verify(jobNodeStorage, times(2)).getJobNodeData(ConfigurationNode.ROOT);
+    }
+    
+    @Test
+    void assertLoadShardingItemParametersFromCache() {
+        when(jobNodeStorage.getJobNodeDataVersion(ConfigurationNode.ROOT)).thenReturn(1L);
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(LiteYamlConstants.getJobYaml());
+        JobConfiguration jobConfig = configService.load(true);
+        Map<Integer, String> actual = configService.loadShardingItemParameters(jobConfig);
+        assertTrue(actual.isEmpty());
+        assertThat(configService.loadShardingItemParameters(configService.load(true)), sameInstance(actual));
+        assertThrows(UnsupportedOperationException.class, () -> actual.put(0, "A"));
+        JobConfigurationCache.getInstance().invalidate("test_job");
+    }
+    
+    @Test
+    void assertLoadShardingItemParametersWithoutCache() {
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("test_job", 2).shardingItemParameters("0=A,1=B,2=C").build();
+        Map<Integer, String> actual = configService.loadShardingItemParameters(jobConfig);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1), is("B"));
+        assertNull(actual.get(2));
+        assertThat(configService.loadShardingItemParameters(jobConfig), not(sameInstance(actual)));
+    }
+    
     @Test
     void assertSetUpJobConfigurationJobConfigurationForJobConflict() {
         assertThrows(JobConfigurationException.class, () -> {
@@ -26,19 +26,24 @@ import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingSer
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.kernel.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
@@ -154,6 +159,7 @@ class FailoverServiceTest {
         JobRegistry.getInstance().setJobRunning("test_job", false);
         when(jobNodeStorage.isJobNodeExisted("leader/failover/items")).thenReturn(true);
         when(jobNodeStorage.getJobNodeChildrenKeys("leader/failover/items")).thenReturn(Arrays.asList("0", "1", "2"));
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).build());
         JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         failoverService.new FailoverLeaderExecutionCallback().execute();
@@ -167,6 +173,62 @@ class FailoverServiceTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertFailoverLeaderExecutionCallbackWithClaimBatch() {
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        when(jobNodeStorage.isJobNodeExisted("leader/failover/items")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeChildrenKeys("leader/failover/items")).thenReturn(Arrays.asList("0", "1", "2"));
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).setProperty("failover.claim.batch.size", "2").build());
+        when(jobNodeStorage.tryExecuteInTransaction(any())).thenReturn(true);
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        failoverService.new FailoverLeaderExecutionCallback().execute();
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobNodeStorage).tryExecuteInTransaction(captor.capture());
+        List<String> actual = captor.getValue().stream().map(each -> each.getType() + " " + each.getKey() + " " + each.getValue()).collect(Collectors.toList());
+        assertThat(actual, is(Arrays.asList(
+                "ADD_EPHEMERAL /test_job/sharding/0/failover 127.0.0.1@-@0", "ADD /test_job/sharding/0/failovering 127.0.0.1@-@0", "DELETE /test_job/leader/failover/items/0 null",
+                "ADD_EPHEMERAL /test_job/sharding/1/failover 127.0.0.1@-@0", "ADD /test_job/sharding/1/failovering 127.0.0.1@-@0", "DELETE /test_job/leader/failover/items/1 null")));
+        verify(jobNodeStorage, times(0)).fillEphemeralJobNode(any(), any());
+        verify(jobScheduleController).triggerJob();
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    void assertFailoverLeaderExecutionCallbackWithClaimBatchFailure() {
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        when(jobNodeStorage.isJobNodeExisted("leader/failover/items")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeChildrenKeys("leader/failover/items")).thenReturn(Arrays.asList("0", "1"));
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 2).setProperty("failover.claim.batch.size", "2").build());
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        failoverService.new FailoverLeaderExecutionCallback().execute();
+        verify(jobNodeStorage).fillEphemeralJobNode("sharding/0/failover", "127.0.0.1@-@0");
+        verify(jobNodeStorage).fillJobNode("sharding/0/failovering", "127.0.0.1@-@0");
+        verify(jobNodeStorage).removeJobNodeIfExisted("leader/failover/items/0");
+        verify(jobScheduleController).triggerJob();
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    void assertFailoverLeaderExecutionCallbackWithInvalidClaimBatchSize() {
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        when(jobNodeStorage.isJobNodeExisted("leader/failover/items")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeChildrenKeys("leader/failover/items")).thenReturn(Arrays.asList("0", "1"));
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 2).setProperty("failover.claim.batch.size", "invalid").build());
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        failoverService.new FailoverLeaderExecutionCallback().execute();
+        verify(jobNodeStorage, times(0)).tryExecuteInTransaction(any());
+        verify(jobNodeStorage).fillEphemeralJobNode("sharding/0/failover", "127.0.0.1@-@0");
+        verify(jobScheduleController).triggerJob();
+        JobRegistry.getInstance().setJobRunning("test_job", false);
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     void assertGetFailoveringItems() {
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
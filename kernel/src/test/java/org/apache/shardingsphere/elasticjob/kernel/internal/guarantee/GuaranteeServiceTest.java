@@ -63,8 +63,7 @@ class GuaranteeServiceTest {
     @Test
     void assertRegisterStart() {
         guaranteeService.registerStart(Arrays.asList(0, 1));
-        verify(jobNodeStorage).createJobNodeIfNeeded("guarantee/started/0");
-        verify(jobNodeStorage).createJobNodeIfNeeded("guarantee/started/1");
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("guarantee/started/0", "guarantee/started/1"));
     }
     
     @Test
@@ -111,8 +110,7 @@ class GuaranteeServiceTest {
     @Test
     void assertRegisterComplete() {
         guaranteeService.registerComplete(Arrays.asList(0, 1));
-        verify(jobNodeStorage).createJobNodeIfNeeded("guarantee/completed/0");
-        verify(jobNodeStorage).createJobNodeIfNeeded("guarantee/completed/1");
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("guarantee/completed/0", "guarantee/completed/1"));
     }
     
     @Test
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.instance;
 
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerNode;
 import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.kernel.util.ReflectionUtils;
@@ -33,7 +34,9 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,6 +67,30 @@ class InstanceServiceTest {
         verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", "jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
     }
     
+    @Test
+    void assertPersistOnlineWithConfiguredWeight() {
+        System.setProperty("elasticjob.instance.weight", "16");
+        try {
+            instanceService.persistOnline();
+        } finally {
+            System.clearProperty("elasticjob.instance.weight");
+        }
+        verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", "jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\nweight: 16\n");
+        assertNull(JobRegistry.getInstance().getJobInstance("test_job").getWeight());
+    }
+    
+    @Test
+    void assertPersistOnlineWithConfiguredInstanceName() {
+        System.setProperty("elasticjob.instance.name", "worker-1");
+        try {
+            instanceService.persistOnline();
+        } finally {
+            System.clearProperty("elasticjob.instance.name");
+        }
+        verify(jobNodeStorage).fillEphemeralJobNode("instances/127.0.0.1@-@0", "instanceName: worker-1\njobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
+        assertNull(JobRegistry.getInstance().getJobInstance("test_job").getInstanceName());
+    }
+    
     @Test
     void assertRemoveInstance() {
         instanceService.removeInstance();
@@ -87,6 +114,21 @@ class InstanceServiceTest {
         assertThat(instanceService.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.1@-@0"))));
     }
     
+    @Test
+    void assertGetAvailableJobInstancesWithJobMembership() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Collections.singletonList("127.0.0.1@-@0"));
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nlabels: labels\nserverIp: 127.0.0.1\n");
+        when(jobNodeStorage.getJobNodeChildrenKeys(ServerNode.ROOT)).thenReturn(Collections.singletonList("127.0.0.1"));
+        when(jobNodeStorage.getJobNodeData("servers/127.0.0.1")).thenReturn("ENABLED");
+        JobRegistry.getInstance().getJobMembership("test_job").start(jobNodeStorage);
+        try {
+            assertThat(instanceService.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.1@-@0"))));
+        } finally {
+            JobRegistry.getInstance().shutdown("test_job");
+        }
+        verify(serverService, times(0)).isEnableServer("127.0.0.1");
+    }
+    
     @Test
     void assertIsLocalJobInstanceExisted() {
         when(jobNodeStorage.isJobNodeExisted("instances/127.0.0.1@-@0")).thenReturn(true);
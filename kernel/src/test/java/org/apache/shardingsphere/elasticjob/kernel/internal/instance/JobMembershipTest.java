@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.instance;
+
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerNode;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobMembershipTest {
+    
+    @Mock
+    private JobNodeStorage jobNodeStorage;
+    
+    private final JobMembership jobMembership = new JobMembership("test_job");
+    
+    @BeforeEach
+    void setUp() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("127.0.0.2@-@0", "127.0.0.1@-@0"));
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.2@-@0")).thenReturn("jobInstanceId: 127.0.0.2@-@0\nserverIp: 127.0.0.2\n");
+        when(jobNodeStorage.getJobNodeChildrenKeys(ServerNode.ROOT)).thenReturn(Arrays.asList("127.0.0.1", "127.0.0.2"));
+        when(jobNodeStorage.getJobNodeData("servers/127.0.0.1")).thenReturn("ENABLED");
+        when(jobNodeStorage.getJobNodeData("servers/127.0.0.2")).thenReturn("DISABLED");
+    }
+    
+    @Test
+    void assertStart() {
+        assertFalse(jobMembership.isStarted());
+        jobMembership.start(jobNodeStorage);
+        assertTrue(jobMembership.isStarted());
+        assertThat(jobMembership.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.1@-@0"))));
+        assertTrue(jobMembership.isEnableServer("127.0.0.1"));
+        assertFalse(jobMembership.isEnableServer("127.0.0.2"));
+        assertTrue(jobMembership.hasOnlineInstances("127.0.0.2"));
+        assertFalse(jobMembership.hasOnlineInstances("127.0.0.3"));
+    }
+    
+    @Test
+    void assertOnChangeBeforeStarted() {
+        jobMembership.onChange(new DataChangedEvent(Type.DELETED, "/test_job/instances/127.0.0.1@-@0", ""));
+        jobMembership.start(jobNodeStorage);
+        assertThat(jobMembership.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.1@-@0"))));
+    }
+    
+    @Test
+    void assertOnServerStatusChanged() {
+        jobMembership.start(jobNodeStorage);
+        jobMembership.onChange(new DataChangedEvent(Type.UPDATED, "/test_job/servers/127.0.0.2", "ENABLED"));
+        assertThat(jobMembership.getAvailableJobInstances(), is(Arrays.asList(new JobInstance("127.0.0.2@-@0"), new JobInstance("127.0.0.1@-@0"))));
+        jobMembership.onChange(new DataChangedEvent(Type.DELETED, "/test_job/servers/127.0.0.1", ""));
+        assertThat(jobMembership.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.2@-@0"))));
+        assertFalse(jobMembership.isEnableServer("127.0.0.1"));
+    }
+    
+    @Test
+    void assertOnJobInstanceChanged() {
+        jobMembership.start(jobNodeStorage);
+        jobMembership.onChange(new DataChangedEvent(Type.ADDED, "/test_job/instances/127.0.0.1@-@1", "jobInstanceId: 127.0.0.1@-@1\nserverIp: 127.0.0.1\n"));
+        assertThat(jobMembership.getAvailableJobInstances(), is(Arrays.asList(new JobInstance("127.0.0.1@-@1"), new JobInstance("127.0.0.1@-@0"))));
+        jobMembership.onChange(new DataChangedEvent(Type.DELETED, "/test_job/instances/127.0.0.1@-@0", ""));
+        assertThat(jobMembership.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.1@-@1"))));
+        jobMembership.onChange(new DataChangedEvent(Type.DELETED, "/test_job/instances/127.0.0.2@-@0", ""));
+        assertFalse(jobMembership.hasOnlineInstances("127.0.0.2"));
+    }
+    
+    @Test
+    void assertOnOtherNodeChanged() {
+        jobMembership.start(jobNodeStorage);
+        jobMembership.onChange(new DataChangedEvent(Type.ADDED, "/test_job/servers/127.0.0.2/processing", "ENABLED"));
+        jobMembership.onChange(new DataChangedEvent(Type.DELETED, "/test_job/instances", ""));
+        jobMembership.onChange(new DataChangedEvent(Type.DELETED, "/other_job/instances/127.0.0.1@-@0", ""));
+        assertThat(jobMembership.getAvailableJobInstances(), is(Collections.singletonList(new JobInstance("127.0.0.1@-@0"))));
+    }
+}
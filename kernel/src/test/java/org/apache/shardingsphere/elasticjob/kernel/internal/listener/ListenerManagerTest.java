@@ -89,6 +89,8 @@ class ListenerManagerTest {
     @Test
     void assertStartAllListeners() {
         listenerManager.startAllListeners();
+        verify(jobNodeStorage).addMembershipListener();
+        verify(jobNodeStorage).addRunningItemIndexListener();
         verify(electionListenerManager).start();
         verify(shardingListenerManager).start();
         verify(failoverListenerManager).start();
@@ -96,6 +98,7 @@ class ListenerManagerTest {
         verify(shutdownListenerManager).start();
         verify(rescheduleListenerManager).start();
         verify(guaranteeListenerManager).start();
+        verify(jobNodeStorage).addChangeSignalListener();
         verify(jobNodeStorage).addConnectionStateListener(regCenterConnectionStateListener);
     }
 }
@@ -22,9 +22,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 @ExtendWith(MockitoExtension.class)
 class ListenerNotifierManagerTest {
@@ -36,6 +38,16 @@ class ListenerNotifierManagerTest {
         assertThat(ListenerNotifierManager.getInstance().getJobNotifyExecutor(jobName), notNullValue(Executor.class));
     }
     
+    @Test
+    void assertRegisterAndGetJobNotifyExecutorOfSharedScheduler() {
+        String jobName = "test_shared_job";
+        ListenerNotifierManager.getInstance().registerJobNotifyExecutor(jobName, true);
+        Executor actual = ListenerNotifierManager.getInstance().getJobNotifyExecutor(jobName);
+        assertThat(actual, notNullValue(Executor.class));
+        assertFalse(actual instanceof ExecutorService);
+        ListenerNotifierManager.getInstance().removeJobNotifyExecutor(jobName);
+    }
+    
     @Test
     void assertRemoveAndShutDownJobNotifyExecutor() {
         String jobName = "test_job";
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -74,6 +75,27 @@ class JobRegistryTest {
         ReflectionUtils.setFieldValue(JobRegistry.getInstance(), "instance", null);
     }
     
+    @Test
+    void assertGetReshardingFlagIfNull() {
+        assertNull(JobRegistry.getInstance().getReshardingFlag("exist_job_instance"));
+    }
+    
+    @Test
+    void assertGetReshardingFlagIfNotNull() {
+        JobRegistry.getInstance().setReshardingFlag("exist_job_instance", true);
+        assertTrue(JobRegistry.getInstance().getReshardingFlag("exist_job_instance"));
+        JobRegistry.getInstance().shutdown("exist_job_instance");
+        assertNull(JobRegistry.getInstance().getReshardingFlag("exist_job_instance"));
+    }
+    
+    @Test
+    void assertInitReshardingFlagIfAlreadySet() {
+        JobRegistry.getInstance().setReshardingFlag("exist_job_instance", true);
+        JobRegistry.getInstance().initReshardingFlag("exist_job_instance", false);
+        assertTrue(JobRegistry.getInstance().getReshardingFlag("exist_job_instance"));
+        JobRegistry.getInstance().shutdown("exist_job_instance");
+    }
+    
     @Test
     void assertShutdown() {
         JobScheduleController jobScheduleController = mock(JobScheduleController.class);
@@ -22,10 +22,12 @@ import org.apache.shardingsphere.elasticjob.kernel.util.ReflectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.JobDetail;
 import org.quartz.JobKey;
+import org.quartz.ListenerManager;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
@@ -33,6 +35,8 @@ import org.quartz.TriggerKey;
 import org.quartz.impl.triggers.CronTriggerImpl;
 import org.quartz.impl.triggers.SimpleTriggerImpl;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -52,6 +56,9 @@ class JobScheduleControllerTest {
     @Mock
     private JobDetail jobDetail;
     
+    @Mock
+    private ListenerManager listenerManager;
+    
     private JobScheduleController jobScheduleController;
     
     @BeforeEach
@@ -303,4 +310,70 @@ class JobScheduleControllerTest {
         jobScheduleController.rescheduleJob();
         verify(scheduler, times(0)).rescheduleJob(eq(TriggerKey.triggerKey("test_job_Trigger")), any());
     }
+    
+    @Test
+    void assertPauseJobInSharedScheduler() throws SchedulerException {
+        when(jobDetail.getKey()).thenReturn(JobKey.jobKey("test_job"));
+        new JobScheduleController(scheduler, jobDetail, "test_job", true).pauseJob();
+        verify(scheduler).pauseJob(JobKey.jobKey("test_job"));
+        verify(scheduler, times(0)).pauseAll();
+    }
+    
+    @Test
+    void assertResumeJobInSharedScheduler() throws SchedulerException {
+        when(jobDetail.getKey()).thenReturn(JobKey.jobKey("test_job"));
+        JobScheduleController actual = new JobScheduleController(scheduler, jobDetail, "test_job", true);
+        actual.pauseJob();
+        actual.resumeJob();
+        verify(scheduler).resumeJob(JobKey.jobKey("test_job"));
+        verify(scheduler, times(0)).resumeAll();
+        assertFalse(actual.isPaused());
+        assertFalse(actual.isPausedInSharedScheduler());
+    }
+    
+    @Test
+    void assertIsPausedInSharedScheduler() throws SchedulerException {
+        when(jobDetail.getKey()).thenReturn(JobKey.jobKey("test_job"));
+        JobScheduleController actual = new JobScheduleController(scheduler, jobDetail, "test_job", true);
+        actual.pauseJob();
+        assertTrue(actual.isPaused());
+        assertTrue(actual.isPausedInSharedScheduler());
+        verify(scheduler, times(0)).getTriggerState(any());
+    }
+    
+    @Test
+    void assertTriggerJobInSharedScheduler() throws SchedulerException {
+        when(jobDetail.getKey()).thenReturn(JobKey.jobKey("test_job"));
+        when(scheduler.checkExists(JobKey.jobKey("test_job"))).thenReturn(true);
+        when(scheduler.isStarted()).thenReturn(true);
+        new JobScheduleController(scheduler, jobDetail, "test_job", true).triggerJob();
+        ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+        verify(scheduler).scheduleJob(triggerCaptor.capture());
+        assertThat(triggerCaptor.getValue().getKey().getGroup(), is("OneOffTrigger-test_job"));
+        assertThat(triggerCaptor.getValue().getJobKey(), is(JobKey.jobKey("test_job")));
+        verify(scheduler, times(0)).triggerJob(any(JobKey.class));
+    }
+    
+    @Test
+    void assertTriggerJobWhenPausedInSharedScheduler() throws SchedulerException {
+        when(jobDetail.getKey()).thenReturn(JobKey.jobKey("test_job"));
+        JobScheduleController actual = new JobScheduleController(scheduler, jobDetail, "test_job", true);
+        actual.pauseJob();
+        actual.triggerJob();
+        verify(scheduler, times(0)).scheduleJob(any(Trigger.class));
+        verify(scheduler, times(0)).triggerJob(any(JobKey.class));
+    }
+    
+    @Test
+    void assertShutdownInSharedScheduler() throws SchedulerException {
+        when(jobDetail.getKey()).thenReturn(JobKey.jobKey("test_job"));
+        when(scheduler.getListenerManager()).thenReturn(listenerManager);
+        JobScheduleController actual = new JobScheduleController(scheduler, jobDetail, "test_job", true);
+        actual.shutdown();
+        verify(scheduler).deleteJob(JobKey.jobKey("test_job"));
+        verify(listenerManager).removeTriggerListener("JobTriggerListener-test_job");
+        verify(scheduler, times(0)).shutdown(false);
+        actual.pauseJob();
+        verify(scheduler, times(0)).pauseJob(JobKey.jobKey("test_job"));
+    }
 }
@@ -25,22 +25,36 @@ import org.apache.shardingsphere.elasticjob.kernel.api.listener.fixture.ElasticJ
 import org.apache.shardingsphere.elasticjob.kernel.api.listener.fixture.TestElasticJobListener;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.failover.FailoverService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.CheckpointService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ExecutionContextService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ExecutionService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ItemDurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingService;
 import org.apache.shardingsphere.elasticjob.kernel.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.tracing.JobTracingEventBus;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobExecutionEvent.ExecutionSource;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent;
+import org.apache.shardingsphere.elasticjob.tracing.event.JobStatusTraceEvent.State;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -63,6 +77,12 @@ class LiteJobFacadeTest {
     @Mock
     private FailoverService failoverService;
     
+    @Mock
+    private ItemDurationService itemDurationService;
+    
+    @Mock
+    private CheckpointService checkpointService;
+    
     @Mock
     private JobTracingEventBus jobTracingEventBus;
     
@@ -84,6 +104,8 @@ class LiteJobFacadeTest {
         ReflectionUtils.setFieldValue(liteJobFacade, "executionContextService", executionContextService);
         ReflectionUtils.setFieldValue(liteJobFacade, "executionService", executionService);
         ReflectionUtils.setFieldValue(liteJobFacade, "failoverService", failoverService);
+        ReflectionUtils.setFieldValue(liteJobFacade, "itemDurationService", itemDurationService);
+        ReflectionUtils.setFieldValue(liteJobFacade, "checkpointService", checkpointService);
         ReflectionUtils.setFieldValue(liteJobFacade, "jobTracingEventBus", jobTracingEventBus);
     }
     
@@ -126,10 +148,21 @@ class LiteJobFacadeTest {
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").failover(false).build());
         liteJobFacade.registerJobCompleted(shardingContexts);
+        verify(checkpointService).flush();
         verify(executionService).registerJobCompleted(shardingContexts);
         verify(failoverService, times(0)).updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
     }
     
+    @Test
+    void assertRegisterJobCompletedWhenFlushCheckpointsFailed() {
+        ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").failover(true).build());
+        doThrow(new IllegalStateException("flush failure")).when(checkpointService).flush();
+        liteJobFacade.registerJobCompleted(shardingContexts);
+        verify(executionService).registerJobCompleted(shardingContexts);
+        verify(failoverService).updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
+    }
+    
     @Test
     void assertRegisterJobCompletedWhenFailoverEnabled() {
         ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
@@ -137,6 +170,28 @@ class LiteJobFacadeTest {
         liteJobFacade.registerJobCompleted(shardingContexts);
         verify(executionService).registerJobCompleted(shardingContexts);
         verify(failoverService).updateFailoverComplete(shardingContexts.getShardingItemParameters().keySet());
+        verify(itemDurationService, times(0)).persist();
+    }
+    
+    @Test
+    void assertRegisterJobCompletedWithDurationAwareShardingStrategy() {
+        ShardingContexts shardingContexts = new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap());
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").jobShardingStrategyType("DURATION_BALANCED").build());
+        liteJobFacade.registerJobCompleted(shardingContexts);
+        verify(executionService).registerJobCompleted(shardingContexts);
+        verify(itemDurationService).persist();
+    }
+    
+    @Test
+    void assertLoadCheckpoint() {
+        when(checkpointService.load(1)).thenReturn("100");
+        assertThat(liteJobFacade.loadCheckpoint(1), is("100"));
+    }
+    
+    @Test
+    void assertCommitCheckpoint() {
+        liteJobFacade.commitCheckpoint(1, "100");
+        verify(checkpointService).commit(1, "100");
     }
     
     @Test
@@ -200,6 +255,12 @@ class LiteJobFacadeTest {
         assertThat(liteJobFacade.isNeedSharding(), is(true));
     }
     
+    @Test
+    void assertIsReshardingPending() {
+        when(shardingService.isReshardingPending()).thenReturn(true);
+        assertThat(liteJobFacade.isReshardingPending(), is(true));
+    }
+    
     @Test
     void assertBeforeJobExecuted() {
         liteJobFacade.beforeJobExecuted(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap()));
@@ -218,5 +279,62 @@ class LiteJobFacadeTest {
     void assertPostJobExecutionEvent() {
         liteJobFacade.postJobExecutionEvent(null);
         verify(jobTracingEventBus).post(null);
+        verify(itemDurationService, times(0)).record(anyInt(), anyLong());
+    }
+    
+    @Test
+    void assertPostCompletedJobExecutionEvent() {
+        JobExecutionEvent jobExecutionEvent = new JobExecutionEvent("id", "localhost", "127.0.0.1", "fake_task_id", "test_job",
+                ExecutionSource.NORMAL_TRIGGER, 1, new Date(1000L), new Date(1500L), true, null);
+        liteJobFacade.postJobExecutionEvent(jobExecutionEvent);
+        verify(itemDurationService).record(1, 500L);
+        verify(jobTracingEventBus).post(jobExecutionEvent);
+    }
+    
+    @Test
+    void assertPostFailedJobExecutionEvent() {
+        JobExecutionEvent jobExecutionEvent = new JobExecutionEvent("id", "localhost", "127.0.0.1", "fake_task_id", "test_job",
+                ExecutionSource.NORMAL_TRIGGER, 1, new Date(1000L), new Date(1500L), false, "failure");
+        liteJobFacade.postJobExecutionEvent(jobExecutionEvent);
+        verify(itemDurationService, times(0)).record(anyInt(), anyLong());
+        verify(jobTracingEventBus).post(jobExecutionEvent);
+    }
+    
+    @Test
+    void assertIsJobExecutionEventRequiredWhenTracingEnabled() {
+        when(jobTracingEventBus.isEnabled()).thenReturn(true);
+        assertTrue(liteJobFacade.isJobExecutionEventRequired());
+    }
+    
+    @Test
+    void assertIsJobExecutionEventRequiredWithDurationAwareShardingStrategy() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").jobShardingStrategyType("DURATION_BALANCED").build());
+        assertTrue(liteJobFacade.isJobExecutionEventRequired());
+    }
+    
+    @Test
+    void assertIsJobExecutionEventNotRequired() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        assertFalse(liteJobFacade.isJobExecutionEventRequired());
+    }
+    
+    @Test
+    void assertPostJobStatusTraceEventWhenTracingEnabled() {
+        when(jobTracingEventBus.isEnabled()).thenReturn(true);
+        liteJobFacade.postJobStatusTraceEvent("test_job@-@0,1@-@READY@-@127.0.0.1@-@0", State.TASK_RUNNING, "");
+        liteJobFacade.postJobStatusTraceEvent("test_job@-@0,1@-@READY@-@127.0.0.1@-@0", State.TASK_FINISHED, "");
+        ArgumentCaptor<JobStatusTraceEvent> captor = ArgumentCaptor.forClass(JobStatusTraceEvent.class);
+        verify(jobTracingEventBus, times(2)).post(captor.capture());
+        JobStatusTraceEvent actual = captor.getAllValues().get(1);
+        assertThat(actual.getJobName(), is("test_job"));
+        assertThat(actual.getSlaveId(), is("127.0.0.1"));
+        assertThat(actual.getShardingItems(), is("0,1"));
+        assertThat(actual.getState(), is(State.TASK_FINISHED));
+    }
+    
+    @Test
+    void assertPostJobStatusTraceEventWhenTracingDisabled() {
+        liteJobFacade.postJobStatusTraceEvent("illegal_task_id", State.TASK_RUNNING, "");
+        verify(jobTracingEventBus, times(0)).post(any());
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.infra.env.TimeService;
+import org.apache.shardingsphere.elasticjob.kernel.api.props.KernelJobProperties;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.kernel.util.ReflectionUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CheckpointServiceTest {
+    
+    @Mock
+    private ConfigurationService configService;
+    
+    @Mock
+    private JobNodeStorage jobNodeStorage;
+    
+    @Mock
+    private TimeService timeService;
+    
+    private final CheckpointService checkpointService = new CheckpointService(null, "test_job");
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionUtils.setFieldValue(checkpointService, "configService", configService);
+        ReflectionUtils.setFieldValue(checkpointService, "jobNodeStorage", jobNodeStorage);
+        ReflectionUtils.setFieldValue(checkpointService, "timeService", timeService);
+    }
+    
+    @Test
+    void assertLoadWithoutCheckpoint() {
+        assertThat(checkpointService.load(0), nullValue());
+    }
+    
+    @Test
+    void assertLoadFromRegistryCenter() {
+        when(jobNodeStorage.getJobNodeDataDirectly("sharding/0/checkpoint")).thenReturn("100");
+        assertThat(checkpointService.load(0), is("100"));
+    }
+    
+    @Test
+    void assertLoadPendingCheckpoint() {
+        when(configService.load(true)).thenReturn(createJobConfiguration(1000));
+        when(timeService.getCurrentMillis()).thenReturn(0L);
+        checkpointService.commit(0, "100");
+        assertThat(checkpointService.load(0), is("100"));
+        verify(jobNodeStorage, times(0)).getJobNodeDataDirectly("sharding/0/checkpoint");
+    }
+    
+    @Test
+    void assertCommitWithinFlushInterval() {
+        when(configService.load(true)).thenReturn(createJobConfiguration(1000));
+        when(timeService.getCurrentMillis()).thenReturn(999L);
+        checkpointService.commit(0, "100");
+        verify(jobNodeStorage, times(0)).fillJobNodes(any());
+    }
+    
+    @Test
+    void assertCommitAfterFlushInterval() {
+        when(configService.load(true)).thenReturn(createJobConfiguration(1000));
+        when(timeService.getCurrentMillis()).thenReturn(1000L);
+        checkpointService.commit(0, "100");
+        verify(jobNodeStorage).fillJobNodes(Collections.singletonMap("sharding/0/checkpoint", "100"));
+    }
+    
+    @Test
+    void assertFlushWithoutPendingCheckpoints() {
+        checkpointService.flush();
+        verify(jobNodeStorage, times(0)).fillJobNodes(any());
+    }
+    
+    @Test
+    void assertFlush() {
+        when(configService.load(true)).thenReturn(createJobConfiguration(1000));
+        when(timeService.getCurrentMillis()).thenReturn(0L);
+        checkpointService.commit(0, "100");
+        checkpointService.commit(1, "200");
+        checkpointService.commit(0, "150");
+        checkpointService.flush();
+        Map<String, String> expected = new HashMap<>(2, 1F);
+        expected.put("sharding/0/checkpoint", "150");
+        expected.put("sharding/1/checkpoint", "200");
+        verify(jobNodeStorage).fillJobNodes(expected);
+        checkpointService.flush();
+        verify(jobNodeStorage).fillJobNodes(any());
+    }
+    
+    private JobConfiguration createJobConfiguration(final long flushIntervalMilliseconds) {
+        return JobConfiguration.newBuilder("test_job", 2).setProperty(KernelJobProperties.CHECKPOINT_FLUSH_INTERVAL_MILLISECONDS_KEY, String.valueOf(flushIntervalMilliseconds)).build();
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
 
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.infra.context.ShardingItemParameters;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.listener.ShardingContexts;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
@@ -37,6 +38,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -61,7 +63,7 @@ class ExecutionContextServiceTest {
     
     @Test
     void assertGetShardingContextWhenNotAssignShardingItem() {
-        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 3)
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3)
                 .cron("0/1 * * * * ?").setProperty("streaming.process", Boolean.TRUE.toString()).monitorExecution(false).build());
         ShardingContexts shardingContexts = executionContextService.getJobShardingContext(Collections.emptyList());
         assertTrue(shardingContexts.getTaskId().startsWith("test_job@-@@-@READY@-@"));
@@ -70,8 +72,10 @@ class ExecutionContextServiceTest {
     
     @Test
     void assertGetShardingContextWhenAssignShardingItems() {
-        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 3)
-                .cron("0/1 * * * * ?").shardingItemParameters("0=A,1=B,2=C").setProperty("streaming.process", Boolean.TRUE.toString()).monitorExecution(false).build());
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("test_job", 3)
+                .cron("0/1 * * * * ?").shardingItemParameters("0=A,1=B,2=C").setProperty("streaming.process", Boolean.TRUE.toString()).monitorExecution(false).build();
+        when(configService.load(true)).thenReturn(jobConfig);
+        when(configService.loadShardingItemParameters(jobConfig)).thenReturn(new ShardingItemParameters("0=A,1=B,2=C").getMap());
         Map<Integer, String> map = new HashMap<>(3);
         map.put(0, "A");
         map.put(1, "B");
@@ -81,8 +85,10 @@ class ExecutionContextServiceTest {
     
     @Test
     void assertGetShardingContextWhenHasRunningItems() {
-        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 3)
-                .cron("0/1 * * * * ?").shardingItemParameters("0=A,1=B,2=C").setProperty("streaming.process", Boolean.TRUE.toString()).monitorExecution(true).build());
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("test_job", 3)
+                .cron("0/1 * * * * ?").shardingItemParameters("0=A,1=B,2=C").setProperty("streaming.process", Boolean.TRUE.toString()).monitorExecution(true).build();
+        when(configService.load(true)).thenReturn(jobConfig);
+        when(configService.loadShardingItemParameters(jobConfig)).thenReturn(new ShardingItemParameters("0=A,1=B,2=C").getMap());
         when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(false);
         when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(true);
         Map<Integer, String> map = new HashMap<>(1, 1);
@@ -91,6 +97,17 @@ class ExecutionContextServiceTest {
         assertShardingContext(executionContextService.getJobShardingContext(Lists.newArrayList(0, 1)), expected);
     }
     
+    @Test
+    void assertGetShardingContextWithCompactTaskId() {
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("test_job", 5).cron("0/1 * * * * ?").monitorExecution(false).build();
+        when(configService.load(true)).thenReturn(jobConfig);
+        when(configService.loadShardingItemParameters(jobConfig)).thenReturn(Collections.emptyMap());
+        String actual = executionContextService.getJobShardingContext(Lists.newArrayList(0, 1, 2, 4)).getTaskId();
+        assertThat(actual, is("test_job@-@0-2,4@-@READY@-@127.0.0.1@-@0"));
+        assertThat(executionContextService.getJobShardingContext(Lists.newArrayList(0, 1, 2, 4)).getTaskId(), sameInstance(actual));
+        assertThat(executionContextService.getJobShardingContext(Lists.newArrayList(0, 1)).getTaskId(), is("test_job@-@0,1@-@READY@-@127.0.0.1@-@0"));
+    }
+    
     private void assertShardingContext(final ShardingContexts actual, final ShardingContexts expected) {
         assertThat(actual.getJobName(), is(expected.getJobName()));
         assertThat(actual.getShardingTotalCount(), is(expected.getShardingTotalCount()));
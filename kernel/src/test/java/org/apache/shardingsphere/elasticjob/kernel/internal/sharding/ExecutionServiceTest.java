@@ -72,7 +72,7 @@ class ExecutionServiceTest {
     void assertRegisterJobBeginWithoutMonitorExecution() {
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(false).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage, times(0)).fillEphemeralJobNode(any(), any());
+        verify(jobNodeStorage, times(0)).fillEphemeralJobNodes(any(), any());
         assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -82,9 +82,7 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance(jobInstanceId));
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(true).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/0/running", jobInstanceId);
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/1/running", jobInstanceId);
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/2/running", jobInstanceId);
+        verify(jobNodeStorage).fillEphemeralJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"), jobInstanceId);
         assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -94,9 +92,7 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance(jobInstanceId));
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").failover(true).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage).fillJobNode("sharding/0/running", jobInstanceId);
-        verify(jobNodeStorage).fillJobNode("sharding/1/running", jobInstanceId);
-        verify(jobNodeStorage).fillJobNode("sharding/2/running", jobInstanceId);
+        verify(jobNodeStorage).fillJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"), jobInstanceId);
         assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -105,8 +101,7 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().setJobRunning("test_job", true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(false).build());
         executionService.registerJobCompleted(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap()));
-        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted(any());
-        verify(jobNodeStorage, times(0)).createJobNodeIfNeeded(any());
+        verify(jobNodeStorage, times(0)).removeJobNodesIfExisted(any());
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -115,9 +110,7 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().setJobRunning("test_job", true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(true).build());
         executionService.registerJobCompleted(getShardingContext());
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"));
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -177,6 +170,19 @@ class ExecutionServiceTest {
         assertFalse(executionService.hasRunningItems());
     }
     
+    @Test
+    void assertHasRunningItemsWithRunningItemIndex() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Collections.singletonList("1"));
+        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeData("sharding/1/running")).thenReturn("127.0.0.1@-@1");
+        JobRegistry.getInstance().getRunningItemIndex("test_job").start(jobNodeStorage);
+        assertTrue(executionService.hasRunningItems());
+        assertTrue(executionService.hasRunningItems(Arrays.asList(1, 2)));
+        assertFalse(executionService.hasRunningItems(Arrays.asList(0, 2)));
+        assertThat(executionService.getAllRunningItems(), is(Collections.singletonMap(1, new JobInstance("127.0.0.1@-@1"))));
+    }
+    
     @Test
     void assertGetAllRunningItems() {
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).build());
@@ -209,9 +215,7 @@ class ExecutionServiceTest {
     @Test
     void assertSetMisfire() {
         executionService.setMisfire(Arrays.asList(0, 1, 2));
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/0/misfire");
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/1/misfire");
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/2/misfire");
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
     }
     
     @Test
@@ -225,9 +229,7 @@ class ExecutionServiceTest {
     @Test
     void assertClearMisfire() {
         executionService.clearMisfire(Arrays.asList(0, 1, 2));
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/misfire");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/misfire");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/misfire");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/misfire", "sharding/1/misfire", "sharding/2/misfire"));
     }
     
     @Test
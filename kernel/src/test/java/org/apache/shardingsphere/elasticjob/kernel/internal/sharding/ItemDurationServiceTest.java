@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.kernel.util.ReflectionUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemDurationServiceTest {
+    
+    @Mock
+    private JobNodeStorage jobNodeStorage;
+    
+    private final ItemDurationService itemDurationService = new ItemDurationService(null, "test_job");
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionUtils.setFieldValue(itemDurationService, "jobNodeStorage", jobNodeStorage);
+    }
+    
+    @Test
+    void assertLoadWithoutDurations() {
+        assertTrue(itemDurationService.load().isEmpty());
+    }
+    
+    @Test
+    void assertLoad() {
+        when(jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS)).thenReturn("100,-1,300");
+        Map<Integer, Long> expected = new HashMap<>(2, 1F);
+        expected.put(0, 100L);
+        expected.put(2, 300L);
+        assertThat(itemDurationService.load(), is(expected));
+    }
+    
+    @Test
+    void assertLoadWithInvalidDurations() {
+        when(jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS)).thenReturn("100,invalid");
+        assertTrue(itemDurationService.load().isEmpty());
+    }
+    
+    @Test
+    void assertPersistWithoutRecordedDurations() {
+        itemDurationService.persist();
+        verify(jobNodeStorage, times(0)).getJobNodeData(ShardingNode.DURATIONS);
+    }
+    
+    @Test
+    void assertPersistNewDurations() {
+        when(jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS)).thenReturn("100");
+        when(jobNodeStorage.compareAndFillJobNode(ShardingNode.DURATIONS, "100", "100,-1,300")).thenReturn(true);
+        itemDurationService.record(2, 300L);
+        itemDurationService.persist();
+        verify(jobNodeStorage).compareAndFillJobNode(ShardingNode.DURATIONS, "100", "100,-1,300");
+    }
+    
+    @Test
+    void assertPersistSmoothedDurations() {
+        when(jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS)).thenReturn("100,200");
+        when(jobNodeStorage.compareAndFillJobNode(ShardingNode.DURATIONS, "100,200", "130,200")).thenReturn(true);
+        itemDurationService.record(0, 200L);
+        itemDurationService.persist();
+        verify(jobNodeStorage).compareAndFillJobNode(ShardingNode.DURATIONS, "100,200", "130,200");
+    }
+    
+    @Test
+    void assertPersistWithSignificantChangeButSmallSmoothedChange() {
+        when(jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS)).thenReturn("100");
+        when(jobNodeStorage.compareAndFillJobNode(ShardingNode.DURATIONS, "100", "106")).thenReturn(true);
+        itemDurationService.record(0, 120L);
+        itemDurationService.persist();
+        verify(jobNodeStorage).compareAndFillJobNode(ShardingNode.DURATIONS, "100", "106");
+    }
+    
+    @Test
+    void assertPersistWithInsignificantChange() {
+        when(jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS)).thenReturn("100");
+        itemDurationService.record(0, 105L);
+        itemDurationService.persist();
+        verify(jobNodeStorage, times(0)).compareAndFillJobNode(any(), any(), any());
+    }
+    
+    @Test
+    void assertPersistWithConcurrentModification() {
+        when(jobNodeStorage.getJobNodeData(ShardingNode.DURATIONS)).thenReturn("100");
+        when(jobNodeStorage.compareAndFillJobNode(ShardingNode.DURATIONS, "100", "100,-1,300")).thenReturn(false);
+        when(jobNodeStorage.getJobNodeDataDirectly(ShardingNode.DURATIONS)).thenReturn("100,200");
+        when(jobNodeStorage.compareAndFillJobNode(ShardingNode.DURATIONS, "100,200", "100,200,300")).thenReturn(true);
+        itemDurationService.record(2, 300L);
+        itemDurationService.persist();
+        verify(jobNodeStorage).compareAndFillJobNode(ShardingNode.DURATIONS, "100,200", "100,200,300");
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RunningItemIndexTest {
+    
+    @Mock
+    private JobNodeStorage jobNodeStorage;
+    
+    private final RunningItemIndex runningItemIndex = new RunningItemIndex("test_job");
+    
+    @BeforeEach
+    void setUp() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Arrays.asList("0", "1", "2"));
+        when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExisted("sharding/1/running")).thenReturn(false);
+        when(jobNodeStorage.isJobNodeExisted("sharding/2/running")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeData("sharding/0/running")).thenReturn("127.0.0.1@-@0");
+        when(jobNodeStorage.getJobNodeData("sharding/2/running")).thenReturn("127.0.0.1@-@1");
+    }
+    
+    @Test
+    void assertStart() {
+        assertFalse(runningItemIndex.isStarted());
+        runningItemIndex.start(jobNodeStorage);
+        assertTrue(runningItemIndex.isStarted());
+        assertTrue(runningItemIndex.isRunning(0));
+        assertFalse(runningItemIndex.isRunning(1));
+        assertTrue(runningItemIndex.hasRunningItems(1));
+        Map<Integer, String> expected = new LinkedHashMap<>(2, 1F);
+        expected.put(0, "127.0.0.1@-@0");
+        expected.put(2, "127.0.0.1@-@1");
+        assertThat(runningItemIndex.getRunningItems(3), is(expected));
+        assertThat(runningItemIndex.getRunningItems(2), is(Collections.singletonMap(0, "127.0.0.1@-@0")));
+    }
+    
+    @Test
+    void assertOnChangeBeforeStarted() {
+        runningItemIndex.onChange(new DataChangedEvent(Type.ADDED, "/test_job/sharding/1/running", "127.0.0.1@-@0"));
+        runningItemIndex.start(jobNodeStorage);
+        assertFalse(runningItemIndex.isRunning(1));
+    }
+    
+    @Test
+    void assertOnRunningNodeChanged() {
+        runningItemIndex.start(jobNodeStorage);
+        runningItemIndex.onChange(new DataChangedEvent(Type.ADDED, "/test_job/sharding/1/running", "127.0.0.1@-@0"));
+        assertTrue(runningItemIndex.isRunning(1));
+        runningItemIndex.onChange(new DataChangedEvent(Type.DELETED, "/test_job/sharding/0/running", "127.0.0.1@-@0"));
+        runningItemIndex.onChange(new DataChangedEvent(Type.DELETED, "/test_job/sharding/1/running", "127.0.0.1@-@0"));
+        assertFalse(runningItemIndex.hasRunningItems(2));
+        assertTrue(runningItemIndex.hasRunningItems(3));
+    }
+    
+    @Test
+    void assertOnOtherNodeChanged() {
+        runningItemIndex.start(jobNodeStorage);
+        runningItemIndex.onChange(new DataChangedEvent(Type.ADDED, "/test_job/sharding/1/misfire", ""));
+        runningItemIndex.onChange(new DataChangedEvent(Type.ADDED, "/test_job/sharding/running", ""));
+        runningItemIndex.onChange(new DataChangedEvent(Type.ADDED, "/test_job/sharding/x/running", ""));
+        runningItemIndex.onChange(new DataChangedEvent(Type.ADDED, "/other_job/sharding/1/running", ""));
+        assertFalse(runningItemIndex.isRunning(1));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.infra.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingAssignmentTest {
+    
+    @Test
+    void assertMarshal() {
+        assertThat(createShardingAssignment(4).marshal(), is("1\n0,1,0,-1\nhost0@-@0\nhost0@-@1"));
+    }
+    
+    @Test
+    void assertUnmarshal() {
+        ShardingAssignment actual = ShardingAssignment.unmarshal("1\n0,1,0,-1\nhost0@-@0\nhost0@-@1");
+        assertThat(actual.getShardingTotalCount(), is(4));
+        assertThat(actual.getJobInstanceId(0), is("host0@-@0"));
+        assertThat(actual.getJobInstanceId(1), is("host0@-@1"));
+        assertThat(actual.getJobInstanceId(3), nullValue());
+        assertThat(actual.getJobInstanceId(4), nullValue());
+        assertThat(actual.getShardingItems("host0@-@0"), is(Arrays.asList(0, 2)));
+        assertThat(actual.getShardingItems("host0@-@2"), is(Collections.<Integer>emptyList()));
+        assertThat(actual.getJobInstanceIds(), is(Arrays.asList("host0@-@0", "host0@-@1")));
+    }
+    
+    @Test
+    void assertUnmarshalWithoutShardingItems() {
+        ShardingAssignment actual = ShardingAssignment.unmarshal(ShardingAssignment.of(Collections.emptyMap(), 0).marshal());
+        assertThat(actual.getShardingTotalCount(), is(0));
+        assertThat(actual.getJobInstanceIds(), is(Collections.<String>emptyList()));
+    }
+    
+    @Test
+    void assertUnmarshalWithUnsupportedFormatVersion() {
+        assertThrows(JobSystemException.class, () -> ShardingAssignment.unmarshal("2\n0\nhost0@-@0"));
+    }
+    
+    @Test
+    void assertIsAllAssigned() {
+        assertTrue(createShardingAssignment(3).isAllAssigned(3));
+        assertFalse(createShardingAssignment(4).isAllAssigned(4));
+        assertFalse(createShardingAssignment(3).isAllAssigned(4));
+    }
+    
+    private ShardingAssignment createShardingAssignment(final int shardingTotalCount) {
+        Map<JobInstance, List<Integer>> shardingResults = new LinkedHashMap<>(3, 1F);
+        shardingResults.put(new JobInstance("host0@-@0"), Arrays.asList(0, 2));
+        shardingResults.put(new JobInstance("host0@-@1"), Collections.singletonList(1));
+        shardingResults.put(new JobInstance("host0@-@2"), Collections.emptyList());
+        return ShardingAssignment.of(shardingResults, shardingTotalCount);
+    }
+}
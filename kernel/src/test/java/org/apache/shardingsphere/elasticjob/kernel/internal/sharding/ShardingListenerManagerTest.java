@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
 
-import com.google.common.collect.Lists;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.kernel.fixture.LiteYamlConstants;
@@ -36,6 +35,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -73,7 +75,40 @@ class ShardingListenerManagerTest {
     @Test
     void assertStart() {
         shardingListenerManager.start();
-        verify(jobNodeStorage, times(2)).addDataListener(any(DataChangedEventListener.class));
+        verify(jobNodeStorage, times(3)).addDataListener(any(DataChangedEventListener.class));
+        assertFalse(JobRegistry.getInstance().getReshardingFlag("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    void assertStartAfterReshardingFlagChanged() {
+        JobRegistry.getInstance().setReshardingFlag("test_job", true);
+        shardingListenerManager.start();
+        assertTrue(JobRegistry.getInstance().getReshardingFlag("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    void assertReshardingFlagChangedJobListenerWhenIsNotNecessaryPath() {
+        shardingListenerManager.new ReshardingFlagChangedJobListener().onChange(new DataChangedEvent(Type.ADDED, "/test_job/leader/sharding/processing", ""));
+        assertNull(JobRegistry.getInstance().getReshardingFlag("test_job"));
+    }
+    
+    @Test
+    void assertReshardingFlagChangedJobListenerWhenNecessaryAddedAndDeleted() {
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        shardingListenerManager.new ReshardingFlagChangedJobListener().onChange(new DataChangedEvent(Type.ADDED, "/test_job/leader/sharding/necessary", ""));
+        assertTrue(JobRegistry.getInstance().getReshardingFlag("test_job"));
+        shardingListenerManager.new ReshardingFlagChangedJobListener().onChange(new DataChangedEvent(Type.DELETED, "/test_job/leader/sharding/necessary", ""));
+        assertFalse(JobRegistry.getInstance().getReshardingFlag("test_job"));
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    void assertReshardingFlagChangedJobListenerWhenJobIsShutdown() {
+        JobRegistry.getInstance().shutdown("test_job");
+        shardingListenerManager.new ReshardingFlagChangedJobListener().onChange(new DataChangedEvent(Type.ADDED, "/test_job/leader/sharding/necessary", ""));
+        assertNull(JobRegistry.getInstance().getReshardingFlag("test_job"));
     }
     
     @Test
@@ -147,7 +182,7 @@ class ShardingListenerManagerTest {
         JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 1).staticSharding(true).build());
-        when(regCenter.getChildrenKeys("/test_job/sharding")).thenReturn(Lists.newArrayList("0"));
+        when(regCenter.getNumChildren("/test_job/sharding")).thenReturn(1);
         shardingListenerManager.new ListenServersChangedJobListener().onChange(new DataChangedEvent(Type.UPDATED, "/test_job/servers/127.0.0.1", ""));
         verify(shardingService, times(0)).setReshardingFlag();
         JobRegistry.getInstance().shutdown("test_job");
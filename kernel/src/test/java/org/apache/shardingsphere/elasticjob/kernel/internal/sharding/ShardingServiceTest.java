@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
 
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.api.props.KernelJobProperties;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.election.LeaderService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceNode;
@@ -29,21 +30,26 @@ import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerService
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.kernel.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -76,6 +82,9 @@ class ShardingServiceTest {
     @Mock
     private InstanceService instanceService;
     
+    @Mock
+    private ItemDurationService itemDurationService;
+    
     private final ShardingService shardingService = new ShardingService(null, "test_job");
     
     @BeforeEach
@@ -86,6 +95,7 @@ class ShardingServiceTest {
         ReflectionUtils.setFieldValue(shardingService, "executionService", executionService);
         ReflectionUtils.setFieldValue(shardingService, "instanceService", instanceService);
         ReflectionUtils.setFieldValue(shardingService, "serverService", serverService);
+        ReflectionUtils.setFieldValue(shardingService, "itemDurationService", itemDurationService);
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0", null, "127.0.0.1"));
     }
     
@@ -109,6 +119,22 @@ class ShardingServiceTest {
         assertTrue(shardingService.isNeedSharding());
     }
     
+    @Test
+    void assertIsReshardingPendingWithReshardingFlag() {
+        JobRegistry.getInstance().setReshardingFlag("test_job", true);
+        assertTrue(shardingService.isReshardingPending());
+        verify(jobNodeStorage, times(0)).isJobNodeExisted("leader/sharding/necessary");
+        JobRegistry.getInstance().setReshardingFlag("test_job", false);
+        assertFalse(shardingService.isReshardingPending());
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    void assertIsReshardingPendingWithoutReshardingFlag() {
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        assertTrue(shardingService.isReshardingPending());
+    }
+    
     @Test
     void assertShardingWhenUnnecessary() {
         shardingService.shardingIfNecessary();
@@ -172,6 +198,110 @@ class ShardingServiceTest {
         verify(jobNodeStorage).executeInTransaction(any(List.class));
     }
     
+    @Test
+    void assertShardingNecessaryWithCompactShardingAssignment() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Collections.singletonList(new JobInstance("127.0.0.1@-@0")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").setProperty(KernelJobProperties.COMPACT_SHARDING_ASSIGNMENT_KEY, Boolean.TRUE.toString()).build());
+        when(jobNodeStorage.getJobNodeDataVersion(anyString())).thenReturn(0L);
+        when(jobNodeStorage.getJobNodeDataVersion("sharding/0/instance")).thenReturn(1L);
+        when(jobNodeStorage.getJobNodeDataVersion("sharding/3")).thenReturn(1L);
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/instance", "sharding/1/instance", "sharding/2/instance"));
+        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/3");
+        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted("sharding/4");
+        verify(jobNodeStorage, times(0)).getJobNodeChildrenKeys(ShardingNode.ROOT);
+        verify(jobNodeStorage, times(0)).createJobNodeIfNeeded("sharding/1");
+        verify(jobNodeStorage).fillEphemeralJobNode("leader/sharding/processing", "");
+        verify(jobNodeStorage).executeInTransaction(any(List.class));
+    }
+    
+    @Test
+    void assertShardingNecessaryWithDurationAwareShardingStrategy() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Collections.singletonList(new JobInstance("127.0.0.1@-@0")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").jobShardingStrategyType("DURATION_BALANCED")
+                .setProperty(KernelJobProperties.COMPACT_SHARDING_ASSIGNMENT_KEY, Boolean.TRUE.toString()).build());
+        when(itemDurationService.load()).thenReturn(Collections.singletonMap(0, 100L));
+        shardingService.shardingIfNecessary();
+        verify(itemDurationService).load();
+        verify(jobNodeStorage).executeInTransaction(any(List.class));
+    }
+    
+    @Test
+    void assertShardingNecessaryWithoutDurationAwareShardingStrategy() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Collections.singletonList(new JobInstance("127.0.0.1@-@0")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?")
+                .setProperty(KernelJobProperties.COMPACT_SHARDING_ASSIGNMENT_KEY, Boolean.TRUE.toString()).build());
+        shardingService.shardingIfNecessary();
+        verify(itemDurationService, times(0)).load();
+    }
+    
+    @Test
+    void assertShardingNecessaryWhenJobInstancesAndConfigurationUnchanged() {
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").setProperty(KernelJobProperties.COMPACT_SHARDING_ASSIGNMENT_KEY, Boolean.TRUE.toString()).build();
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("127.0.0.1@-@1"), new JobInstance("127.0.0.1@-@0")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(jobConfig);
+        shardingService.shardingIfNecessary();
+        String fingerprint = getAppliedFingerprint();
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("127.0.0.1@-@0"), new JobInstance("127.0.0.1@-@1")));
+        when(jobNodeStorage.getJobNodeData(ShardingNode.FINGERPRINT)).thenReturn(fingerprint);
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.1@-@1"));
+        when(configService.load(true)).thenReturn(jobConfig);
+        when(jobNodeStorage.getJobNodeDataVersion(ShardingNode.ASSIGNMENT)).thenReturn(1L);
+        when(jobNodeStorage.getJobNodeData(ShardingNode.ASSIGNMENT)).thenReturn(createShardingAssignment().marshal());
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage).removeJobNodeIfExisted("leader/sharding/necessary");
+        verify(jobNodeStorage).fillEphemeralJobNode("leader/sharding/processing", "");
+        verify(jobNodeStorage).executeInTransaction(any(List.class));
+    }
+    
+    @Test
+    void assertShardingNecessaryWhenShardingTotalCountChanged() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("127.0.0.1@-@0"), new JobInstance("127.0.0.1@-@1")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").setProperty(KernelJobProperties.COMPACT_SHARDING_ASSIGNMENT_KEY, Boolean.TRUE.toString()).build());
+        shardingService.shardingIfNecessary();
+        String fingerprint = getAppliedFingerprint();
+        when(jobNodeStorage.getJobNodeData(ShardingNode.FINGERPRINT)).thenReturn(fingerprint);
+        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 4).cron("0/1 * * * * ?").setProperty(KernelJobProperties.COMPACT_SHARDING_ASSIGNMENT_KEY, Boolean.TRUE.toString()).build());
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage, times(2)).executeInTransaction(any(List.class));
+    }
+    
+    @Test
+    void assertShardingNecessaryWhenUnchangedButShardingInfoInOfflineServers() {
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").setProperty(KernelJobProperties.COMPACT_SHARDING_ASSIGNMENT_KEY, Boolean.TRUE.toString()).build();
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("127.0.0.1@-@0"), new JobInstance("127.0.0.1@-@1")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(jobConfig);
+        shardingService.shardingIfNecessary();
+        String fingerprint = getAppliedFingerprint();
+        when(jobNodeStorage.getJobNodeData(ShardingNode.FINGERPRINT)).thenReturn(fingerprint);
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Collections.singletonList("127.0.0.1@-@0"));
+        when(configService.load(true)).thenReturn(jobConfig);
+        when(jobNodeStorage.getJobNodeDataVersion(ShardingNode.ASSIGNMENT)).thenReturn(1L);
+        when(jobNodeStorage.getJobNodeData(ShardingNode.ASSIGNMENT)).thenReturn(createShardingAssignment().marshal());
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted("leader/sharding/necessary");
+        verify(jobNodeStorage, times(2)).executeInTransaction(any(List.class));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private String getAppliedFingerprint() {
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobNodeStorage).executeInTransaction(captor.capture());
+        return captor.getValue().stream().filter(each -> each.getKey().endsWith(ShardingNode.FINGERPRINT)).findFirst().map(TransactionOperation::getValue).orElse(null);
+    }
+    
     @Test
     void assertGetShardingItemsWithNotAvailableServer() {
         when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
@@ -184,6 +314,7 @@ class ShardingServiceTest {
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        mockLegacyShardingInfoCached();
         when(jobNodeStorage.getJobNodeData("sharding/0/instance")).thenReturn("127.0.0.1@-@0");
         when(jobNodeStorage.getJobNodeData("sharding/1/instance")).thenReturn("127.0.0.1@-@1");
         when(jobNodeStorage.getJobNodeData("sharding/2/instance")).thenReturn("127.0.0.1@-@0");
@@ -192,6 +323,36 @@ class ShardingServiceTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    void assertGetShardingItemsWithCompactShardingAssignment() {
+        when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeDataVersion(ShardingNode.ASSIGNMENT)).thenReturn(1L);
+        when(jobNodeStorage.getJobNodeData(ShardingNode.ASSIGNMENT)).thenReturn(createShardingAssignment().marshal());
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
+        assertThat(shardingService.getShardingItems("127.0.0.1@-@0"), is(Arrays.asList(0, 2)));
+    }
+    
+    @Test
+    void assertGetShardingItemsWithCompactShardingAssignmentNotCached() {
+        when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
+        when(jobNodeStorage.getJobNodeDataVersion(anyString())).thenReturn(-1L);
+        when(jobNodeStorage.getJobNodeData(ShardingNode.ASSIGNMENT)).thenReturn(createShardingAssignment().marshal());
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
+        assertThat(shardingService.getShardingItems("127.0.0.1@-@0"), is(Arrays.asList(0, 2)));
+    }
+    
+    private void mockLegacyShardingInfoCached() {
+        when(jobNodeStorage.getJobNodeDataVersion(anyString())).thenReturn(-1L);
+        when(jobNodeStorage.getJobNodeDataVersion("sharding/0/instance")).thenReturn(1L);
+    }
+    
+    private ShardingAssignment createShardingAssignment() {
+        Map<JobInstance, List<Integer>> shardingResults = new LinkedHashMap<>(2, 1F);
+        shardingResults.put(new JobInstance("127.0.0.1@-@0"), Arrays.asList(0, 2));
+        shardingResults.put(new JobInstance("127.0.0.1@-@1"), Collections.singletonList(1));
+        return ShardingAssignment.of(shardingResults, 3);
+    }
+    
     @Test
     void assertGetLocalShardingItemsWithInstanceShutdown() {
         assertThat(shardingService.getLocalShardingItems(), is(Collections.<Integer>emptyList()));
@@ -211,6 +372,7 @@ class ShardingServiceTest {
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        mockLegacyShardingInfoCached();
         when(jobNodeStorage.getJobNodeData("sharding/0/instance")).thenReturn("127.0.0.1@-@0");
         when(jobNodeStorage.getJobNodeData("sharding/1/instance")).thenReturn("127.0.0.1@-@1");
         when(jobNodeStorage.getJobNodeData("sharding/2/instance")).thenReturn("127.0.0.1@-@0");
@@ -223,6 +385,7 @@ class ShardingServiceTest {
     void assertHasShardingInfoInOfflineServers() {
         when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("host0@-@0", "host0@-@1"));
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        mockLegacyShardingInfoCached();
         when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(0))).thenReturn("host0@-@0");
         when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(1))).thenReturn("host0@-@1");
         when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(2))).thenReturn("host0@-@2");
@@ -233,12 +396,31 @@ class ShardingServiceTest {
     void assertHasNotShardingInfoInOfflineServers() {
         when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("host0@-@0", "host0@-@1"));
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        mockLegacyShardingInfoCached();
         when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(0))).thenReturn("host0@-@0");
         when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(1))).thenReturn("host0@-@1");
         when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(2))).thenReturn("host0@-@0");
         assertFalse(shardingService.hasShardingInfoInOfflineServers());
     }
     
+    @Test
+    void assertHasShardingInfoInOfflineServersWithCompactShardingAssignment() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Collections.singletonList("127.0.0.1@-@0"));
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        when(jobNodeStorage.getJobNodeDataVersion(ShardingNode.ASSIGNMENT)).thenReturn(1L);
+        when(jobNodeStorage.getJobNodeData(ShardingNode.ASSIGNMENT)).thenReturn(createShardingAssignment().marshal());
+        assertTrue(shardingService.hasShardingInfoInOfflineServers());
+    }
+    
+    @Test
+    void assertHasNotShardingInfoInOfflineServersWithCompactShardingAssignment() {
+        when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("127.0.0.1@-@0", "127.0.0.1@-@1"));
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        when(jobNodeStorage.getJobNodeDataVersion(ShardingNode.ASSIGNMENT)).thenReturn(1L);
+        when(jobNodeStorage.getJobNodeData(ShardingNode.ASSIGNMENT)).thenReturn(createShardingAssignment().marshal());
+        assertFalse(shardingService.hasShardingInfoInOfflineServers());
+    }
+    
     @Test
     void assertGetCrashedShardingItemsWithNotEnableServer() {
         assertThat(shardingService.getCrashedShardingItems("127.0.0.1@-@0"), is(Collections.<Integer>emptyList()));
@@ -250,6 +432,7 @@ class ShardingServiceTest {
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         when(serverService.isEnableServer("127.0.0.1")).thenReturn(true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        mockLegacyShardingInfoCached();
         when(jobNodeStorage.getJobNodeData("sharding/0/instance")).thenReturn("127.0.0.1@-@0");
         when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(true);
         when(jobNodeStorage.getJobNodeData("sharding/2/instance")).thenReturn("127.0.0.1@-@0");
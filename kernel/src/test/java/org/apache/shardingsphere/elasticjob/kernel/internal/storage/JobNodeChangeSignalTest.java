@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.storage;
+
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobNodeChangeSignalTest {
+    
+    private final JobNodeChangeSignal signal = new JobNodeChangeSignal();
+    
+    @Test
+    void assertAwaitWithSatisfiedCondition() {
+        assertTrue(signal.await(() -> true, 0L));
+    }
+    
+    @Test
+    void assertAwaitTimeout() {
+        assertFalse(signal.await(() -> false, 10L));
+    }
+    
+    @Test
+    void assertAwaitUntilChanged() throws InterruptedException, ExecutionException, TimeoutException {
+        AtomicBoolean satisfied = new AtomicBoolean();
+        CompletableFuture<Boolean> actual = CompletableFuture.supplyAsync(() -> signal.await(satisfied::get, 60000L));
+        satisfied.set(true);
+        signal.onChange(new DataChangedEvent(Type.ADDED, "/test_job/leader/election/instance", ""));
+        assertTrue(actual.get(10L, TimeUnit.SECONDS));
+    }
+}
@@ -18,28 +18,36 @@
 package org.apache.shardingsphere.elasticjob.kernel.internal.storage;
 
 import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerNotifierManager;
+import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.kernel.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation.Type;
 import org.apache.shardingsphere.elasticjob.reg.exception.RegException;
 import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -139,6 +147,12 @@ class JobNodeStorageTest {
         verify(regCenter).persist("/test_job/config/cron", "0/1 * * * * ?");
     }
     
+    @Test
+    void assertCompareAndFillJobNode() {
+        when(regCenter.compareAndPersist("/test_job/durations", "100", "200")).thenReturn(true);
+        assertTrue(jobNodeStorage.compareAndFillJobNode("durations", "100", 200));
+    }
+    
     @Test
     void assertFillEphemeralJobNode() {
         jobNodeStorage.fillEphemeralJobNode("config/cron", "0/1 * * * * ?");
@@ -171,6 +185,88 @@ class JobNodeStorageTest {
         });
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertFillEphemeralJobNodesWhenCached() throws Exception {
+        when(regCenter.getCachedVersion(anyString())).thenReturn(1L);
+        jobNodeStorage.fillEphemeralJobNodes(Collections.singletonList("sharding/0/running"), "host0");
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(getTypes(captor.getValue()), is(Arrays.asList(Type.CHECK_EXISTS, Type.DELETE, Type.ADD_EPHEMERAL)));
+        assertThat(captor.getValue().get(2).getKey(), is("/test_job/sharding/0/running"));
+        assertThat(captor.getValue().get(2).getValue(), is("host0"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCreateJobNodesIfNeededWithParentNodes() throws Exception {
+        jobNodeStorage.createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire"));
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(captor.getValue().stream().map(TransactionOperation::getKey).collect(Collectors.toList()),
+                is(Arrays.asList("/test_job", "/test_job/sharding", "/test_job/sharding/0", "/test_job/sharding/0/misfire", "/test_job/sharding/1", "/test_job/sharding/1/misfire")));
+        assertThat(getTypes(captor.getValue()), is(Arrays.asList(Type.CHECK_EXISTS, Type.ADD, Type.ADD, Type.ADD, Type.ADD, Type.ADD)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertFillJobNodesWithOwnValues() throws Exception {
+        when(regCenter.getCachedVersion(anyString())).thenReturn(1L);
+        Map<String, String> nodeValues = new LinkedHashMap<>(2, 1F);
+        nodeValues.put("sharding/0/checkpoint", "100");
+        nodeValues.put("sharding/1/checkpoint", "200");
+        jobNodeStorage.fillJobNodes(nodeValues);
+        ArgumentCaptor<List<TransactionOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regCenter).executeInTransaction(captor.capture());
+        assertThat(getTypes(captor.getValue()), is(Arrays.asList(Type.CHECK_EXISTS, Type.UPDATE, Type.UPDATE)));
+        assertThat(captor.getValue().get(1).getValue(), is("100"));
+        assertThat(captor.getValue().get(2).getKey(), is("/test_job/sharding/1/checkpoint"));
+        assertThat(captor.getValue().get(2).getValue(), is("200"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertFillJobNodesInMultipleTransactions() throws Exception {
+        when(regCenter.getCachedVersion(anyString())).thenReturn(1L);
+        char[] value = new char[300 * 1024];
+        Arrays.fill(value, 'x');
+        jobNodeStorage.fillJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running"), new String(value));
+        verify(regCenter, times(2)).executeInTransaction(any(List.class));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertRemoveJobNodesIfExistedWhenTransactionFailure() throws Exception {
+        when(regCenter.getCachedVersion(anyString())).thenReturn(1L);
+        doThrow(RuntimeException.class).when(regCenter).executeInTransaction(any(List.class));
+        when(regCenter.isExisted("/test_job/sharding/0/misfire")).thenReturn(true);
+        jobNodeStorage.removeJobNodesIfExisted(Arrays.asList("sharding/0/misfire", "sharding/1/misfire"));
+        verify(regCenter).remove("/test_job/sharding/0/misfire");
+        verify(regCenter, times(0)).remove("/test_job/sharding/1/misfire");
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertRemoveJobNodesIfExistedWhenNotCached() throws Exception {
+        when(regCenter.isExisted("/test_job/sharding/0/misfire")).thenReturn(true);
+        jobNodeStorage.removeJobNodesIfExisted(Collections.singletonList("sharding/0/misfire"));
+        verify(regCenter, times(0)).executeInTransaction(any(List.class));
+        verify(regCenter).remove("/test_job/sharding/0/misfire");
+    }
+    
+    @Test
+    void assertRemoveJobNodesAsync() {
+        when(regCenter.removeAsync("/test_job/servers/ip1")).thenReturn(CompletableFuture.completedFuture(null));
+        when(regCenter.removeAsync("/test_job/servers/ip2")).thenReturn(CompletableFuture.completedFuture(null));
+        assertTrue(jobNodeStorage.removeJobNodesAsync(Arrays.asList("servers/ip1", "servers/ip2")).isDone());
+        verify(regCenter).removeAsync("/test_job/servers/ip1");
+        verify(regCenter).removeAsync("/test_job/servers/ip2");
+    }
+    
+    private List<Type> getTypes(final List<TransactionOperation> operations) {
+        return operations.stream().map(TransactionOperation::getType).collect(Collectors.toList());
+    }
+    
     @Test
     void assertAddConnectionStateListener() {
         ConnectionStateChangedEventListener listener = mock(ConnectionStateChangedEventListener.class);
@@ -188,6 +284,34 @@ class JobNodeStorageTest {
         verify(regCenter).watch("/test_job", listener, executor);
     }
     
+    @Test
+    void assertAddChangeSignalListener() {
+        jobNodeStorage.addChangeSignalListener();
+        verify(regCenter).watch("/test_job", JobRegistry.getInstance().getJobNodeChangeSignal("test_job"), null);
+    }
+    
+    @Test
+    void assertAddMembershipListener() {
+        try {
+            jobNodeStorage.addMembershipListener();
+            verify(regCenter).watch("/test_job", JobRegistry.getInstance().getJobMembership("test_job"), null);
+            assertTrue(JobRegistry.getInstance().getJobMembership("test_job").isStarted());
+        } finally {
+            JobRegistry.getInstance().shutdown("test_job");
+        }
+    }
+    
+    @Test
+    void assertAddRunningItemIndexListener() {
+        try {
+            jobNodeStorage.addRunningItemIndexListener();
+            verify(regCenter).watch("/test_job", JobRegistry.getInstance().getRunningItemIndex("test_job"), null);
+            assertTrue(JobRegistry.getInstance().getRunningItemIndex("test_job").isStarted());
+        } finally {
+            JobRegistry.getInstance().shutdown("test_job");
+        }
+    }
+    
     @Test
     void assertGetRegistryCenterTime() {
         when(regCenter.getRegistryCenterTime("/test_job/systemTime/current")).thenReturn(0L);
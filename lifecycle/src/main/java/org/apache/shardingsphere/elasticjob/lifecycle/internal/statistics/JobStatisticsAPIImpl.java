@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingAssignment;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lifecycle.api.JobStatisticsAPI;
 import org.apache.shardingsphere.elasticjob.lifecycle.domain.JobBriefInfo;
@@ -106,6 +107,11 @@ public final class JobStatisticsAPIImpl implements JobStatisticsAPI {
     }
     
     private boolean isHasShardingFlag(final JobNodePath jobNodePath, final List<String> instances) {
+        String assignmentData = regCenter.get(jobNodePath.getShardingAssignmentNodePath());
+        if (null != assignmentData && !assignmentData.isEmpty()) {
+            ShardingAssignment assignment = ShardingAssignment.unmarshal(assignmentData);
+            return !new HashSet<>(instances).containsAll(assignment.getJobInstanceIds()) || assignment.getJobInstanceIds().isEmpty();
+        }
         Set<String> shardingInstances = new HashSet<>();
         for (String each : regCenter.getChildrenKeys(jobNodePath.getShardingNodePath())) {
             String instanceId = regCenter.get(jobNodePath.getShardingNodePath(each, "instance"));
@@ -31,6 +31,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -43,10 +44,13 @@ public final class ServerStatisticsAPIImpl implements ServerStatisticsAPI {
     
     @Override
     public int getServersTotalCount() {
-        Set<String> servers = new HashSet<>();
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>();
         for (String jobName : regCenter.getChildrenKeys("/")) {
-            JobNodePath jobNodePath = new JobNodePath(jobName);
-            servers.addAll(regCenter.getChildrenKeys(jobNodePath.getServerNodePath()));
+            futures.add(regCenter.getChildrenKeysAsync(new JobNodePath(jobName).getServerNodePath()));
+        }
+        Set<String> servers = new HashSet<>();
+        for (CompletableFuture<List<String>> each : futures) {
+            servers.addAll(each.join());
         }
         return servers.size();
     }
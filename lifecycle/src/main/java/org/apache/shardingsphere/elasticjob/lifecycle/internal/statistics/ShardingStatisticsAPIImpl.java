@@ -20,6 +20,9 @@ package org.apache.shardingsphere.elasticjob.lifecycle.internal.statistics;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.infra.handler.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.RunningItemIndex;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingAssignment;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lifecycle.api.ShardingStatisticsAPI;
 import org.apache.shardingsphere.elasticjob.lifecycle.domain.ShardingInfo;
@@ -28,7 +31,9 @@ import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Sharding statistics API implementation class.
@@ -40,23 +45,38 @@ public final class ShardingStatisticsAPIImpl implements ShardingStatisticsAPI {
     
     @Override
     public Collection<ShardingInfo> getShardingInfo(final String jobName) {
-        String shardingRootPath = new JobNodePath(jobName).getShardingNodePath();
-        List<String> items = regCenter.getChildrenKeys(shardingRootPath);
+        JobNodePath jobNodePath = new JobNodePath(jobName);
+        Set<String> items = new LinkedHashSet<>(regCenter.getChildrenKeys(jobNodePath.getShardingNodePath()));
+        String assignmentData = regCenter.get(jobNodePath.getShardingAssignmentNodePath());
+        ShardingAssignment assignment = null == assignmentData || assignmentData.isEmpty() ? null : ShardingAssignment.unmarshal(assignmentData);
+        if (null != assignment) {
+            for (int i = 0; i < assignment.getShardingTotalCount(); i++) {
+                items.add(String.valueOf(i));
+            }
+        }
+        RunningItemIndex runningItemIndex = getRunningItemIndex(jobName);
         List<ShardingInfo> result = new ArrayList<>(items.size());
         for (String each : items) {
-            result.add(getShardingInfo(jobName, each));
+            result.add(getShardingInfo(jobNodePath, each, assignment, runningItemIndex));
         }
         Collections.sort(result);
         return result;
     }
     
-    private ShardingInfo getShardingInfo(final String jobName, final String item) {
+    private RunningItemIndex getRunningItemIndex(final String jobName) {
+        if (regCenter != JobRegistry.getInstance().getRegCenter(jobName)) {
+            return null;
+        }
+        RunningItemIndex result = JobRegistry.getInstance().getRunningItemIndex(jobName);
+        return result.isStarted() ? result : null;
+    }
+    
+    private ShardingInfo getShardingInfo(final JobNodePath jobNodePath, final String item, final ShardingAssignment assignment, final RunningItemIndex runningItemIndex) {
         ShardingInfo result = new ShardingInfo();
         result.setItem(Integer.parseInt(item));
-        JobNodePath jobNodePath = new JobNodePath(jobName);
-        String instanceId = regCenter.get(jobNodePath.getShardingNodePath(item, "instance"));
+        String instanceId = null == assignment ? regCenter.get(jobNodePath.getShardingNodePath(item, "instance")) : assignment.getJobInstanceId(Integer.parseInt(item));
         boolean disabled = regCenter.isExisted(jobNodePath.getShardingNodePath(item, "disabled"));
-        boolean running = regCenter.isExisted(jobNodePath.getShardingNodePath(item, "running"));
+        boolean running = null == runningItemIndex ? regCenter.isExisted(jobNodePath.getShardingNodePath(item, "running")) : runningItemIndex.isRunning(Integer.parseInt(item));
         boolean shardingError = !regCenter.isExisted(jobNodePath.getInstanceNodePath(instanceId));
         result.setStatus(ShardingInfo.ShardingStatus.getShardingStatus(disabled, running, shardingError));
         result.setFailover(regCenter.isExisted(jobNodePath.getShardingNodePath(item, "failover")));
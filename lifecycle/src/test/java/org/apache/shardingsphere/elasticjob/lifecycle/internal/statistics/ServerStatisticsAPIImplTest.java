@@ -28,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -50,8 +51,8 @@ class ServerStatisticsAPIImplTest {
     @Test
     void assertGetJobsTotalCount() {
         when(regCenter.getChildrenKeys("/")).thenReturn(Arrays.asList("test_job_1", "test_job_2"));
-        when(regCenter.getChildrenKeys("/test_job_1/servers")).thenReturn(Arrays.asList("ip1", "ip2"));
-        when(regCenter.getChildrenKeys("/test_job_2/servers")).thenReturn(Arrays.asList("ip2", "ip3"));
+        when(regCenter.getChildrenKeysAsync("/test_job_1/servers")).thenReturn(CompletableFuture.completedFuture(Arrays.asList("ip1", "ip2")));
+        when(regCenter.getChildrenKeysAsync("/test_job_2/servers")).thenReturn(CompletableFuture.completedFuture(Arrays.asList("ip2", "ip3")));
         assertThat(serverStatisticsAPI.getServersTotalCount(), is(3));
     }
     
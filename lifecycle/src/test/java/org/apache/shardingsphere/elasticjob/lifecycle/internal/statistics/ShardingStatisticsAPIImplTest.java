@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.elasticjob.lifecycle.internal.statistics;
 
+import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.lifecycle.api.ShardingStatisticsAPI;
 import org.apache.shardingsphere.elasticjob.lifecycle.domain.ShardingInfo;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
@@ -27,9 +29,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -97,4 +103,43 @@ class ShardingStatisticsAPIImplTest {
             }
         }
     }
+    
+    @Test
+    void assertGetShardingInfoWithShardingAssignment() {
+        when(regCenter.getChildrenKeys("/test_job/sharding")).thenReturn(Collections.singletonList("1"));
+        when(regCenter.get("/test_job/assignment")).thenReturn("1\n0,-1\nip1@-@1234");
+        when(regCenter.get("/test_job/instances/ip1@-@1234")).thenReturn("jobInstanceId: ip1@-@1234\nserverIp: ip1\n");
+        when(regCenter.isExisted("/test_job/instances/ip1@-@1234")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/sharding/1/disabled")).thenReturn(true);
+        Iterator<ShardingInfo> actual = shardingStatisticsAPI.getShardingInfo("test_job").iterator();
+        ShardingInfo first = actual.next();
+        assertThat(first.getItem(), is(0));
+        assertThat(first.getStatus(), is(ShardingInfo.ShardingStatus.PENDING));
+        assertThat(first.getInstanceId(), is("ip1@-@1234"));
+        ShardingInfo second = actual.next();
+        assertThat(second.getItem(), is(1));
+        assertThat(second.getStatus(), is(ShardingInfo.ShardingStatus.DISABLED));
+        assertThat(second.getInstanceId(), nullValue());
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    void assertGetShardingInfoWithRunningItemIndex() {
+        when(regCenter.getChildrenKeys("/test_job/sharding")).thenReturn(Arrays.asList("0", "1"));
+        when(regCenter.get("/test_job/sharding/0/instance")).thenReturn("ip1@-@1234");
+        when(regCenter.get("/test_job/sharding/1/instance")).thenReturn("ip1@-@1234");
+        when(regCenter.get("/test_job/instances/ip1@-@1234")).thenReturn("jobInstanceId: ip1@-@1234\nserverIp: ip1\n");
+        when(regCenter.isExisted("/test_job/instances/ip1@-@1234")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/sharding/1/running")).thenReturn(true);
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        try {
+            JobRegistry.getInstance().getRunningItemIndex("test_job").start(new JobNodeStorage(regCenter, "test_job"));
+            when(regCenter.isExisted("/test_job/sharding/1/running")).thenReturn(false);
+            Iterator<ShardingInfo> actual = shardingStatisticsAPI.getShardingInfo("test_job").iterator();
+            assertThat(actual.next().getStatus(), is(ShardingInfo.ShardingStatus.PENDING));
+            assertThat(actual.next().getStatus(), is(ShardingInfo.ShardingStatus.RUNNING));
+        } finally {
+            JobRegistry.getInstance().shutdown("test_job");
+        }
+    }
 }
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.elasticjob.reg.base;
 
 import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.exception.RegException;
 import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 /**
@@ -37,6 +40,16 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     String getDirectly(String key);
     
+    /**
+     * Get data version of key from cache.
+     * 
+     * @param key key
+     * @return data version of key in cache, or -1 if key is not cached or data version is unknown
+     */
+    default long getCachedVersion(String key) {
+        return -1L;
+    }
+    
     /**
      * Get children keys.
      * 
@@ -77,6 +90,24 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     void persistEphemeralSequential(String key);
     
+    /**
+     * Persist data only if current value is the expected one.
+     * 
+     * <p>Value is compared and persisted non-atomically by default, registry centers supporting conditional writes should override it.</p>
+     * 
+     * @param key key
+     * @param expectedValue expected current value, null if key is expected to be absent
+     * @param value value
+     * @return persisted or not
+     */
+    default boolean compareAndPersist(String key, String expectedValue, String value) {
+        if (!Objects.equals(expectedValue, isExisted(key) ? getDirectly(key) : null)) {
+            return false;
+        }
+        persist(key, value);
+        return true;
+    }
+    
     /**
      * Add data to cache.
      * 
@@ -132,6 +163,67 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     void executeInTransaction(List<TransactionOperation> transactionOperations) throws Exception;
     
+    /**
+     * Get value from registry center directly and asynchronously.
+     * 
+     * <p>Value is got synchronously by default, registry centers supporting asynchronous operations should override it.</p>
+     * 
+     * @param key key
+     * @return future of value, completed with null if key is not existed
+     */
+    default CompletableFuture<String> getDirectlyAsync(String key) {
+        return CompletableFuture.supplyAsync(() -> getDirectly(key), Runnable::run);
+    }
+    
+    /**
+     * Get children keys asynchronously.
+     * 
+     * @param key key
+     * @return future of children keys
+     */
+    default CompletableFuture<List<String>> getChildrenKeysAsync(String key) {
+        return CompletableFuture.supplyAsync(() -> getChildrenKeys(key), Runnable::run);
+    }
+    
+    /**
+     * Persist data asynchronously.
+     * 
+     * @param key key
+     * @param value value
+     * @return future of persisting
+     */
+    default CompletableFuture<Void> persistAsync(String key, String value) {
+        return CompletableFuture.runAsync(() -> persist(key, value), Runnable::run);
+    }
+    
+    /**
+     * Remove data asynchronously.
+     * 
+     * @param key key
+     * @return future of removing
+     */
+    default CompletableFuture<Void> removeAsync(String key) {
+        return CompletableFuture.runAsync(() -> remove(key), Runnable::run);
+    }
+    
+    /**
+     * Execute operations in transaction asynchronously.
+     * 
+     * @param transactionOperations operations
+     * @return future of transaction, completed exceptionally if transaction failed
+     */
+    default CompletableFuture<Void> executeInTransactionAsync(List<TransactionOperation> transactionOperations) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                executeInTransaction(transactionOperations);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                throw new RegException(ex);
+            }
+        }, Runnable::run);
+    }
+    
     /**
      * Remove all data listeners that have been bound to the current key.
      * @param key key to be watched
@@ -33,6 +33,8 @@ public final class TransactionOperation {
         
         ADD,
         
+        ADD_EPHEMERAL,
+        
         UPDATE,
         
         DELETE
@@ -55,6 +57,17 @@ public final class TransactionOperation {
         return new TransactionOperation(Type.ADD, key, value);
     }
     
+    /**
+     * Operation add ephemeral.
+     *
+     * @param key key
+     * @param value value
+     * @return TransactionOperation
+     */
+    public static TransactionOperation opAddEphemeral(final String key, final String value) {
+        return new TransactionOperation(Type.ADD_EPHEMERAL, key, value);
+    }
+    
     /**
      * Operation update.
      *
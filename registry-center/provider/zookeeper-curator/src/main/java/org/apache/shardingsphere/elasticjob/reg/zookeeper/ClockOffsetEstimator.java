@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.zookeeper;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Clock offset estimator between local server and registry center.
+ * 
+ * <p>
+ * Registry center time is sampled at most once per sampling interval,
+ * between samples it is estimated from local time, the latest sampled offset and the drift observed between the latest two samples.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ClockOffsetEstimator {
+    
+    private static final double MAX_DRIFT = 0.001D;
+    
+    private final long samplingIntervalMilliseconds;
+    
+    private final LongSupplier localClock;
+    
+    private volatile Sample latestSample;
+    
+    public ClockOffsetEstimator(final long samplingIntervalMilliseconds) {
+        this(samplingIntervalMilliseconds, System::currentTimeMillis);
+    }
+    
+    /**
+     * Get estimated registry center time.
+     * 
+     * @param sampler sampler of registry center time
+     * @return estimated registry center time
+     */
+    public long getRegistryCenterTime(final LongSupplier sampler) {
+        if (0L >= samplingIntervalMilliseconds) {
+            return sampler.getAsLong();
+        }
+        long now = localClock.getAsLong();
+        Sample sample = latestSample;
+        if (isExpired(sample, now)) {
+            sample = resample(sampler);
+            now = localClock.getAsLong();
+        }
+        return now + sample.estimateOffset(now);
+    }
+    
+    private boolean isExpired(final Sample sample, final long now) {
+        return null == sample || now < sample.localTime || now - sample.localTime >= samplingIntervalMilliseconds;
+    }
+    
+    private synchronized Sample resample(final LongSupplier sampler) {
+        Sample previous = latestSample;
+        if (!isExpired(previous, localClock.getAsLong())) {
+            return previous;
+        }
+        long requestTime = localClock.getAsLong();
+        long registryCenterTime = sampler.getAsLong();
+        long responseTime = localClock.getAsLong();
+        long localTime = requestTime + (responseTime - requestTime) / 2L;
+        long offset = registryCenterTime - localTime;
+        double drift = null == previous || localTime <= previous.localTime ? 0D : (double) (offset - previous.offset) / (localTime - previous.localTime);
+        latestSample = new Sample(localTime, offset, Math.max(-MAX_DRIFT, Math.min(MAX_DRIFT, drift)));
+        return latestSample;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Sample {
+        
+        private final long localTime;
+        
+        private final long offset;
+        
+        private final double drift;
+        
+        long estimateOffset(final long now) {
+            return offset + Math.round(drift * (now - localTime));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.zookeeper;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Path trie.
+ * 
+ * <p>
+ * Values are registered on paths split by '/', lookup costs O(path depth) whatever the count of registered paths.
+ * Nodes are immutable and replaced on write, so lookup is lock free.
+ * </p>
+ * 
+ * @param <V> type of value
+ */
+public final class PathTrie<V> {
+    
+    private volatile Node<V> root = new Node<>(null, Collections.emptyMap());
+    
+    /**
+     * Put value to path.
+     * 
+     * @param path path
+     * @param value value
+     */
+    public synchronized void put(final String path, final V value) {
+        root = put(root, path, skipSeparators(path, 0), value);
+    }
+    
+    private Node<V> put(final Node<V> node, final String path, final int begin, final V value) {
+        if (begin >= path.length()) {
+            return new Node<>(value, node.children);
+        }
+        int end = getSegmentEnd(path, begin);
+        String segment = path.substring(begin, end);
+        Node<V> child = node.children.getOrDefault(segment, new Node<>(null, Collections.emptyMap()));
+        Map<String, Node<V>> children = new HashMap<>(node.children);
+        children.put(segment, put(child, path, skipSeparators(path, end), value));
+        return new Node<>(node.value, Collections.unmodifiableMap(children));
+    }
+    
+    /**
+     * Remove value of path.
+     * 
+     * @param path path
+     */
+    public synchronized void remove(final String path) {
+        Node<V> result = remove(root, path, skipSeparators(path, 0));
+        root = null == result ? new Node<>(null, Collections.emptyMap()) : result;
+    }
+    
+    private Node<V> remove(final Node<V> node, final String path, final int begin) {
+        if (begin >= path.length()) {
+            return node.children.isEmpty() ? null : new Node<>(null, node.children);
+        }
+        int end = getSegmentEnd(path, begin);
+        String segment = path.substring(begin, end);
+        Node<V> child = node.children.get(segment);
+        if (null == child) {
+            return node;
+        }
+        Node<V> newChild = remove(child, path, skipSeparators(path, end));
+        Map<String, Node<V>> children = new HashMap<>(node.children);
+        if (null == newChild) {
+            children.remove(segment);
+        } else {
+            children.put(segment, newChild);
+        }
+        return null == node.value && children.isEmpty() ? null : new Node<>(node.value, Collections.unmodifiableMap(children));
+    }
+    
+    /**
+     * Find value registered on the deepest path which is the path itself or its ancestor.
+     * 
+     * @param path path
+     * @return found value, null if absent
+     */
+    public V findClosest(final String path) {
+        Node<V> node = root;
+        V result = node.value;
+        int begin = skipSeparators(path, 0);
+        while (begin < path.length()) {
+            int end = getSegmentEnd(path, begin);
+            node = node.children.get(path.substring(begin, end));
+            if (null == node) {
+                break;
+            }
+            if (null != node.value) {
+                result = node.value;
+            }
+            begin = skipSeparators(path, end);
+        }
+        return result;
+    }
+    
+    private int getSegmentEnd(final String path, final int begin) {
+        int result = path.indexOf('/', begin);
+        return -1 == result ? path.length() : result;
+    }
+    
+    private int skipSeparators(final String path, final int begin) {
+        int result = begin;
+        while (result < path.length() && '/' == path.charAt(result)) {
+            result++;
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Node<V> {
+        
+        private final V value;
+        
+        private final Map<String, Node<V>> children;
+    }
+}
@@ -74,4 +74,14 @@ public final class ZookeeperConfiguration {
      * Zookeeper digest.
      */
     private String digest;
+    
+    /**
+     * Sampling interval milliseconds of registry center time.
+     * 
+     * <p>
+     * Registry center time is estimated from local time and the sampled clock offset between samples,
+     * 0 or negative value means sampling registry center time on every request.
+     * </p>
+     */
+    private int timeSamplingIntervalMilliseconds = 60000;
 }
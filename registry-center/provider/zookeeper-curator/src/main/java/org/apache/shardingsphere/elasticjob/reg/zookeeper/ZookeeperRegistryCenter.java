@@ -25,6 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.api.transaction.TransactionOp;
 import org.apache.curator.framework.recipes.cache.ChildData;
@@ -60,9 +62,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Registry center of ZooKeeper.
@@ -75,6 +79,11 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
+    /**
+     * Route key to the cache of its deepest cached ancestor.
+     */
+    private final PathTrie<CuratorCache> cacheRouter = new PathTrie<>();
+    
     /**
      * Data listener list.
      */
@@ -88,6 +97,8 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     @Getter
     private CuratorFramework client;
     
+    private ClockOffsetEstimator clockOffsetEstimator;
+    
     public ZookeeperRegistryCenter(final ZookeeperConfiguration zkConfig) {
         this.zkConfig = zkConfig;
     }
@@ -121,6 +132,7 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
                     });
         }
         client = builder.build();
+        clockOffsetEstimator = new ClockOffsetEstimator(zkConfig.getTimeSamplingIntervalMilliseconds());
         client.start();
         try {
             if (!client.blockUntilConnected(zkConfig.getMaxSleepTimeMilliseconds() * zkConfig.getMaxRetries(), TimeUnit.MILLISECONDS)) {
@@ -165,12 +177,16 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     }
     
     private CuratorCache findCuratorCache(final String key) {
-        for (Entry<String, CuratorCache> entry : caches.entrySet()) {
-            if (key.startsWith(entry.getKey())) {
-                return entry.getValue();
-            }
+        return cacheRouter.findClosest(key);
+    }
+    
+    @Override
+    public long getCachedVersion(final String key) {
+        CuratorCache cache = findCuratorCache(key);
+        if (null == cache) {
+            return -1L;
         }
-        return null;
+        return cache.get(key).map(ChildData::getStat).map(Stat::getMzxid).orElse(-1L);
     }
     
     @Override
@@ -253,6 +269,33 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         }
     }
     
+    @Override
+    public boolean compareAndPersist(final String key, final String expectedValue, final String value) {
+        try {
+            Stat stat = client.checkExists().forPath(key);
+            if (null == stat) {
+                if (null != expectedValue) {
+                    return false;
+                }
+                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+                return true;
+            }
+            byte[] data = client.getData().storingStatIn(stat).forPath(key);
+            if (!Objects.equals(expectedValue, null == data ? null : new String(data, StandardCharsets.UTF_8))) {
+                return false;
+            }
+            client.setData().withVersion(stat.getVersion()).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (final KeeperException.NodeExistsException | KeeperException.NoNodeException | KeeperException.BadVersionException ignored) {
+            return false;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+            return false;
+        }
+    }
+    
     @Override
     public void persistEphemeral(final String key, final String value) {
         try {
@@ -303,6 +346,10 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     
     @Override
     public long getRegistryCenterTime(final String key) {
+        return clockOffsetEstimator.getRegistryCenterTime(() -> sampleRegistryCenterTime(key));
+    }
+    
+    private long sampleRegistryCenterTime(final String key) {
         long result = 0L;
         try {
             persist(key, "");
@@ -353,6 +400,80 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         client.transaction().forOperations(toCuratorOps(transactionOperations));
     }
     
+    @Override
+    public CompletableFuture<String> getDirectlyAsync(final String key) {
+        return executeInBackground(callback -> client.getData().inBackground(callback).forPath(key),
+                event -> null == event.getData() ? null : new String(event.getData(), StandardCharsets.UTF_8), this::handleIgnorableException);
+    }
+    
+    @Override
+    public CompletableFuture<List<String>> getChildrenKeysAsync(final String key) {
+        return executeInBackground(callback -> client.getChildren().inBackground(callback).forPath(key), event -> {
+            List<String> result = new ArrayList<>(event.getChildren());
+            result.sort(Comparator.reverseOrder());
+            return result;
+        }, ex -> {
+            RegExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Void> persistAsync(final String key, final String value) {
+        return executeInBackground(callback -> client.create().orSetData().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT)
+                .inBackground(callback).forPath(key, value.getBytes(StandardCharsets.UTF_8)), event -> null, this::handleIgnorableException);
+    }
+    
+    @Override
+    public CompletableFuture<Void> removeAsync(final String key) {
+        return executeInBackground(callback -> client.delete().deletingChildrenIfNeeded().inBackground(callback).forPath(key), event -> null, this::handleIgnorableException);
+    }
+    
+    @Override
+    public CompletableFuture<Void> executeInTransactionAsync(final List<TransactionOperation> transactionOperations) {
+        return executeInBackground(callback -> client.transaction().inBackground(callback).forOperations(toCuratorOps(transactionOperations)), event -> null, ex -> {
+            throw new RegException(ex);
+        });
+    }
+    
+    private <T> CompletableFuture<T> executeInBackground(final BackgroundOperation operation, final Function<CuratorEvent, T> resultMapper, final Function<Exception, T> exceptionHandler) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            operation.execute((curatorClient, event) -> {
+                try {
+                    KeeperException.Code code = KeeperException.Code.get(event.getResultCode());
+                    if (KeeperException.Code.OK == code) {
+                        result.complete(resultMapper.apply(event));
+                    } else {
+                        completeExceptionally(result, KeeperException.create(code, event.getPath()), exceptionHandler);
+                    }
+                    // CHECKSTYLE:OFF
+                } catch (final Throwable ex) {
+                    // CHECKSTYLE:ON
+                    result.completeExceptionally(ex);
+                }
+            });
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            completeExceptionally(result, ex, exceptionHandler);
+        }
+        return result;
+    }
+    
+    private <T> void completeExceptionally(final CompletableFuture<T> future, final Exception cause, final Function<Exception, T> exceptionHandler) {
+        try {
+            future.complete(exceptionHandler.apply(cause));
+        } catch (final RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+    
+    private <T> T handleIgnorableException(final Exception cause) {
+        RegExceptionHandler.handleException(cause);
+        return null;
+    }
+    
     private List<CuratorOp> toCuratorOps(final List<TransactionOperation> transactionOperations) {
         List<CuratorOp> result = new ArrayList<>(transactionOperations.size());
         TransactionOp transactionOp = client.transactionOp();
@@ -369,6 +490,8 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
                     return transactionOp.check().forPath(each.getKey());
                 case ADD:
                     return transactionOp.create().forPath(each.getKey(), each.getValue().getBytes(StandardCharsets.UTF_8));
+                case ADD_EPHEMERAL:
+                    return transactionOp.create().withMode(CreateMode.EPHEMERAL).forPath(each.getKey(), each.getValue().getBytes(StandardCharsets.UTF_8));
                 case UPDATE:
                     return transactionOp.setData().forPath(each.getKey(), each.getValue().getBytes(StandardCharsets.UTF_8));
                 case DELETE:
@@ -394,11 +517,13 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
             RegExceptionHandler.handleException(ex);
         }
         caches.put(cachePath + "/", cache);
+        cacheRouter.put(cachePath, cache);
     }
     
     @Override
     public void evictCacheData(final String cachePath) {
         CuratorCache cache = caches.remove(cachePath + "/");
+        cacheRouter.remove(cachePath);
         if (null != cache) {
             cache.close();
         }
@@ -488,4 +613,10 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
             throw new RegException(ex);
         }
     }
+    
+    @FunctionalInterface
+    private interface BackgroundOperation {
+        
+        void execute(BackgroundCallback callback) throws Exception;
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.zookeeper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ClockOffsetEstimatorTest {
+    
+    private final AtomicLong localTime = new AtomicLong(10000L);
+    
+    private final AtomicInteger sampledCount = new AtomicInteger();
+    
+    @Test
+    void assertGetRegistryCenterTimeWithoutSamplingInterval() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(0L, localTime::get);
+        assertThat(estimator.getRegistryCenterTime(this::sample), is(10500L));
+        assertThat(estimator.getRegistryCenterTime(this::sample), is(10500L));
+        assertThat(sampledCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetRegistryCenterTimeWithinSamplingInterval() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(60000L, localTime::get);
+        assertThat(estimator.getRegistryCenterTime(this::sample), is(10500L));
+        localTime.addAndGet(1000L);
+        assertThat(estimator.getRegistryCenterTime(this::sample), is(11500L));
+        assertThat(sampledCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetRegistryCenterTimeWhenSamplingIntervalExpired() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(60000L, localTime::get);
+        estimator.getRegistryCenterTime(this::sample);
+        localTime.addAndGet(60000L);
+        assertThat(estimator.getRegistryCenterTime(() -> sample() + 6L), is(70506L));
+        localTime.addAndGet(30000L);
+        assertThat(estimator.getRegistryCenterTime(this::sample), is(100509L));
+        assertThat(sampledCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetRegistryCenterTimeWhenLocalClockMovedBackward() {
+        ClockOffsetEstimator estimator = new ClockOffsetEstimator(60000L, localTime::get);
+        estimator.getRegistryCenterTime(this::sample);
+        localTime.addAndGet(-1000L);
+        assertThat(estimator.getRegistryCenterTime(this::sample), is(9500L));
+        assertThat(sampledCount.get(), is(2));
+    }
+    
+    private long sample() {
+        sampledCount.incrementAndGet();
+        return localTime.get() + 500L;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.zookeeper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PathTrieTest {
+    
+    @Test
+    void assertFindClosestWithoutValue() {
+        assertNull(new PathTrie<String>().findClosest("/test_job/config"));
+    }
+    
+    @Test
+    void assertFindClosest() {
+        PathTrie<String> pathTrie = new PathTrie<>();
+        pathTrie.put("/test_job", "test_job");
+        pathTrie.put("/test_job_other", "test_job_other");
+        assertThat(pathTrie.findClosest("/test_job"), is("test_job"));
+        assertThat(pathTrie.findClosest("/test_job/sharding/0/instance"), is("test_job"));
+        assertThat(pathTrie.findClosest("/test_job_other/config"), is("test_job_other"));
+        assertNull(pathTrie.findClosest("/test_job_absent/config"));
+        assertNull(pathTrie.findClosest("/"));
+    }
+    
+    @Test
+    void assertFindClosestWithNestedPath() {
+        PathTrie<String> pathTrie = new PathTrie<>();
+        pathTrie.put("/test_job", "test_job");
+        pathTrie.put("/test_job/sharding", "sharding");
+        assertThat(pathTrie.findClosest("/test_job/config"), is("test_job"));
+        assertThat(pathTrie.findClosest("/test_job/sharding/0/running"), is("sharding"));
+    }
+    
+    @Test
+    void assertRemove() {
+        PathTrie<String> pathTrie = new PathTrie<>();
+        pathTrie.put("/test_job", "test_job");
+        pathTrie.put("/test_job/sharding", "sharding");
+        pathTrie.remove("/test_job/sharding");
+        assertThat(pathTrie.findClosest("/test_job/sharding/0/running"), is("test_job"));
+        pathTrie.remove("/test_job");
+        assertNull(pathTrie.findClosest("/test_job/sharding/0/running"));
+        pathTrie.remove("/test_job_absent");
+        assertNull(pathTrie.findClosest("/test_job_absent"));
+    }
+    
+    @Test
+    void assertRemoveParentAndKeepChild() {
+        PathTrie<String> pathTrie = new PathTrie<>();
+        pathTrie.put("/test_job", "test_job");
+        pathTrie.put("/test_job/sharding", "sharding");
+        pathTrie.remove("/test_job");
+        assertNull(pathTrie.findClosest("/test_job/config"));
+        assertThat(pathTrie.findClosest("/test_job/sharding/0/running"), is("sharding"));
+    }
+}
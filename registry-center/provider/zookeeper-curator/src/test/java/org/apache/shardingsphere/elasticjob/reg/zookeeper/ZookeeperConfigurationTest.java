@@ -32,5 +32,6 @@ class ZookeeperConfigurationTest {
         assertThat(zkConfig.getBaseSleepTimeMilliseconds(), is(1000));
         assertThat(zkConfig.getMaxSleepTimeMilliseconds(), is(3000));
         assertThat(zkConfig.getMaxRetries(), is(3));
+        assertThat(zkConfig.getTimeSamplingIntervalMilliseconds(), is(60000));
     }
 }
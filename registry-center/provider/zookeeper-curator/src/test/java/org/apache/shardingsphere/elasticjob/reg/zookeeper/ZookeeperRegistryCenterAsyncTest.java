@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.zookeeper;
+
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.exception.RegException;
+import org.apache.shardingsphere.elasticjob.reg.zookeeper.fixture.EmbedTestingServer;
+import org.apache.shardingsphere.elasticjob.reg.zookeeper.util.ZookeeperRegistryCenterTestUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZookeeperRegistryCenterAsyncTest {
+    
+    private static final ZookeeperConfiguration ZOOKEEPER_CONFIGURATION =
+            new ZookeeperConfiguration(EmbedTestingServer.getConnectionString(), ZookeeperRegistryCenterAsyncTest.class.getName());
+    
+    private static ZookeeperRegistryCenter zkRegCenter;
+    
+    @BeforeAll
+    static void setUp() {
+        EmbedTestingServer.start();
+        ZOOKEEPER_CONFIGURATION.setConnectionTimeoutMilliseconds(30000);
+        zkRegCenter = new ZookeeperRegistryCenter(ZOOKEEPER_CONFIGURATION);
+        zkRegCenter.init();
+    }
+    
+    @BeforeEach
+    void setup() {
+        ZookeeperRegistryCenterTestUtil.persist(zkRegCenter);
+    }
+    
+    @AfterAll
+    static void tearDown() {
+        zkRegCenter.close();
+    }
+    
+    @Test
+    void assertGetDirectlyAsync() {
+        assertThat(zkRegCenter.getDirectlyAsync("/test/deep/nested").join(), is("deepNested"));
+        assertThat(zkRegCenter.getDirectlyAsync("/test/notExisted").join(), nullValue());
+    }
+    
+    @Test
+    void assertGetDirectlyAsyncWithNullData() throws Exception {
+        ((CuratorFramework) zkRegCenter.getRawClient()).create().orSetData().forPath("/test/nullData", null);
+        assertThat(zkRegCenter.getDirectlyAsync("/test/nullData").get(10L, TimeUnit.SECONDS), nullValue());
+    }
+    
+    @Test
+    void assertGetChildrenKeysAsync() {
+        assertThat(zkRegCenter.getChildrenKeysAsync("/test/deep").join(), is(Collections.singletonList("nested")));
+        assertThat(zkRegCenter.getChildrenKeysAsync("/test/notExisted").join(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPipelinedGetDirectlyAsync() {
+        List<CompletableFuture<String>> futures = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            futures.add(zkRegCenter.getDirectlyAsync(0 == i % 2 ? "/test/child" : "/test/deep/nested"));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(futures.get(i).join(), is(0 == i % 2 ? "child" : "deepNested"));
+        }
+    }
+    
+    @Test
+    void assertPersistAsync() {
+        zkRegCenter.persistAsync("/test/async/persist", "persist").join();
+        assertThat(zkRegCenter.getDirectly("/test/async/persist"), is("persist"));
+        zkRegCenter.persistAsync("/test/async/persist", "updated").join();
+        assertThat(zkRegCenter.getDirectly("/test/async/persist"), is("updated"));
+    }
+    
+    @Test
+    void assertRemoveAsync() {
+        zkRegCenter.removeAsync("/test/deep").join();
+        assertFalse(zkRegCenter.isExisted("/test/deep"));
+        zkRegCenter.removeAsync("/test/notExisted").join();
+    }
+    
+    @Test
+    void assertExecuteInTransactionAsyncSucceeded() {
+        zkRegCenter.executeInTransactionAsync(Arrays.asList(TransactionOperation.opCheckExists("/test"), TransactionOperation.opAdd("/test/async_transaction", "transaction"))).join();
+        assertThat(zkRegCenter.getDirectly("/test/async_transaction"), is("transaction"));
+    }
+    
+    @Test
+    void assertExecuteInTransactionAsyncFailed() {
+        CompletableFuture<Void> future = zkRegCenter.executeInTransactionAsync(Arrays.asList(TransactionOperation.opAdd("/test/shouldNotExisted", ""), TransactionOperation.opCheckExists("/test/notExisted")));
+        CompletionException actual = assertThrows(CompletionException.class, future::join);
+        assertThat(actual.getCause(), instanceOf(RegException.class));
+        assertTrue(future.isCompletedExceptionally());
+        assertFalse(zkRegCenter.isExisted("/test/shouldNotExisted"));
+    }
+}
@@ -70,6 +70,17 @@ class ZookeeperRegistryCenterModifyTest {
         assertThat(zkRegCenter.getDirectly("/update"), is("after_update"));
     }
     
+    @Test
+    void assertCompareAndPersist() {
+        assertTrue(zkRegCenter.compareAndPersist("/compare/new", null, "first_value"));
+        assertFalse(zkRegCenter.compareAndPersist("/compare/new", null, "conflict_value"));
+        assertFalse(zkRegCenter.compareAndPersist("/compare/new", "stale_value", "conflict_value"));
+        assertTrue(zkRegCenter.compareAndPersist("/compare/new", "first_value", "second_value"));
+        assertFalse(zkRegCenter.compareAndPersist("/compare/absent", "first_value", "second_value"));
+        assertThat(zkRegCenter.getDirectly("/compare/new"), is("second_value"));
+        assertFalse(zkRegCenter.isExisted("/compare/absent"));
+    }
+    
     @Test
     void assertPersistEphemeral() throws Exception {
         zkRegCenter.persist("/persist", "persist_value");
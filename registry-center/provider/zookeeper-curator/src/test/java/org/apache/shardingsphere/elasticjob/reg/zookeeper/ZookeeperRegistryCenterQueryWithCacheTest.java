@@ -19,10 +19,13 @@ package org.apache.shardingsphere.elasticjob.reg.zookeeper;
 
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.fixture.EmbedTestingServer;
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.util.ZookeeperRegistryCenterTestUtil;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -59,4 +62,11 @@ class ZookeeperRegistryCenterQueryWithCacheTest {
         assertThat(zkRegCenter.get("/test"), is("test"));
         assertThat(zkRegCenter.get("/test/deep/nested"), is("deepNested"));
     }
+    
+    @Test
+    void assertGetCachedVersion() {
+        assertThat(zkRegCenter.getCachedVersion("/test/null"), is(-1L));
+        assertThat(zkRegCenter.getCachedVersion("/other"), is(-1L));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> zkRegCenter.getCachedVersion("/test/deep/nested") > 0L);
+    }
 }
@@ -43,6 +43,7 @@ class ZookeeperRegistryCenterQueryWithoutCacheTest {
     static void setUp() {
         EmbedTestingServer.start();
         ZOOKEEPER_CONFIGURATION.setConnectionTimeoutMilliseconds(30000);
+        ZOOKEEPER_CONFIGURATION.setTimeSamplingIntervalMilliseconds(0);
         zkRegCenter = new ZookeeperRegistryCenter(ZOOKEEPER_CONFIGURATION);
         zkRegCenter.init();
         ZookeeperRegistryCenterTestUtil.persist(zkRegCenter);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.reg.zookeeper;
 
+import org.apache.curator.framework.CuratorFramework;
 import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.fixture.EmbedTestingServer;
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.util.ZookeeperRegistryCenterTestUtil;
@@ -26,9 +27,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -63,6 +66,13 @@ class ZookeeperRegistryCenterTransactionTest {
         assertThat(zkRegCenter.getDirectly("/test/transaction"), is("transaction"));
     }
     
+    @Test
+    void assertExecuteInTransactionWithEphemeralNode() throws Exception {
+        zkRegCenter.executeInTransaction(Collections.singletonList(TransactionOperation.opAddEphemeral("/test/ephemeral", "ephemeral")));
+        assertThat(zkRegCenter.getDirectly("/test/ephemeral"), is("ephemeral"));
+        assertThat(((CuratorFramework) zkRegCenter.getRawClient()).checkExists().forPath("/test/ephemeral").getEphemeralOwner(), not(0L));
+    }
+    
     @Test
     void assertExecuteInTransactionFailed() throws Exception {
         List<TransactionOperation> operations = new ArrayList<>(3);
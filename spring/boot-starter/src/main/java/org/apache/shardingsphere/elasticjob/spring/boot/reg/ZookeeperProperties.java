@@ -73,6 +73,11 @@ public class ZookeeperProperties {
      */
     private String digest;
     
+    /**
+     * Sampling interval milliseconds of registry center time.
+     */
+    private int timeSamplingIntervalMilliseconds = 60000;
+    
     /**
      * Create ZooKeeper configuration.
      *
@@ -86,6 +91,7 @@ public class ZookeeperProperties {
         result.setSessionTimeoutMilliseconds(sessionTimeoutMilliseconds);
         result.setConnectionTimeoutMilliseconds(connectionTimeoutMilliseconds);
         result.setDigest(digest);
+        result.setTimeSamplingIntervalMilliseconds(timeSamplingIntervalMilliseconds);
         return result;
     }
 }
@@ -36,6 +36,7 @@ class ZookeeperPropertiesTest {
         properties.setSessionTimeoutMilliseconds(5000);
         properties.setConnectionTimeoutMilliseconds(6000);
         properties.setDigest("digest");
+        properties.setTimeSamplingIntervalMilliseconds(30000);
         ZookeeperConfiguration actual = properties.toZookeeperConfiguration();
         assertThat(actual.getServerLists(), is(properties.getServerLists()));
         assertThat(actual.getNamespace(), is(properties.getNamespace()));
@@ -45,5 +46,6 @@ class ZookeeperPropertiesTest {
         assertThat(actual.getSessionTimeoutMilliseconds(), is(properties.getSessionTimeoutMilliseconds()));
         assertThat(actual.getConnectionTimeoutMilliseconds(), is(properties.getConnectionTimeoutMilliseconds()));
         assertThat(actual.getDigest(), is(properties.getDigest()));
+        assertThat(actual.getTimeSamplingIntervalMilliseconds(), is(properties.getTimeSamplingIntervalMilliseconds()));
     }
 }